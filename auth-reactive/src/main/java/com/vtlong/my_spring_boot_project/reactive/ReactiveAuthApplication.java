@@ -0,0 +1,20 @@
+package com.vtlong.my_spring_boot_project.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Import;
+
+import com.vtlong.my_spring_boot_project.config.JwtConfig;
+import com.vtlong.my_spring_boot_project.config.JwtKeyProvider;
+import com.vtlong.my_spring_boot_project.ratelimit.LoginRateLimitConfig;
+import com.vtlong.my_spring_boot_project.ratelimit.LoginRateLimiter;
+
+@SpringBootApplication
+@Import({ JwtConfig.class, JwtKeyProvider.class, LoginRateLimitConfig.class, LoginRateLimiter.class })
+public class ReactiveAuthApplication {
+
+	public static void main(String[] args) {
+		SpringApplication.run(ReactiveAuthApplication.class, args);
+	}
+
+}
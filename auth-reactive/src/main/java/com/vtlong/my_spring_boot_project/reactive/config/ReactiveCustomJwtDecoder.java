@@ -0,0 +1,39 @@
+package com.vtlong.my_spring_boot_project.reactive.config;
+
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
+import org.springframework.stereotype.Component;
+
+import com.vtlong.my_spring_boot_project.config.JwtKeyProvider;
+import com.vtlong.my_spring_boot_project.reactive.service.ReactiveTokenGenerationService;
+
+import reactor.core.publisher.Mono;
+
+@Component
+public class ReactiveCustomJwtDecoder implements ReactiveJwtDecoder {
+
+    private final ReactiveTokenGenerationService tokenGenerationService;
+    private final NimbusJwtDecoder nimbusJwtDecoder;
+
+    public ReactiveCustomJwtDecoder(JwtKeyProvider jwtKeyProvider,
+            ReactiveTokenGenerationService tokenGenerationService) {
+        this.tokenGenerationService = tokenGenerationService;
+        this.nimbusJwtDecoder = jwtKeyProvider.getNimbusJwtDecoder();
+    }
+
+    @Override
+    public Mono<Jwt> decode(String token) throws JwtException {
+        return Mono.fromCallable(() -> nimbusJwtDecoder.decode(token))
+                .flatMap(jwt -> tokenGenerationService.isCurrent(jwt.getClaimAsString("userId"), generationOf(jwt))
+                        .flatMap(current -> current
+                                ? Mono.just(jwt)
+                                : Mono.<Jwt>error(new JwtException("Token has been revoked"))));
+    }
+
+    private long generationOf(Jwt jwt) {
+        Object generation = jwt.getClaim("gen");
+        return generation instanceof Number number ? number.longValue() : 0L;
+    }
+}
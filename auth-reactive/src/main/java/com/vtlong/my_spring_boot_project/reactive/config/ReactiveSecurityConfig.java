@@ -0,0 +1,55 @@
+package com.vtlong.my_spring_boot_project.reactive.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+@Configuration
+@EnableWebFluxSecurity
+public class ReactiveSecurityConfig {
+
+    private final ReactiveCustomJwtDecoder reactiveCustomJwtDecoder;
+
+    public ReactiveSecurityConfig(ReactiveCustomJwtDecoder reactiveCustomJwtDecoder) {
+        this.reactiveCustomJwtDecoder = reactiveCustomJwtDecoder;
+    }
+
+    private final String[] PUBLIC_ENDPOINTS = {
+            "/auth/login",
+            "/auth/introspect",
+            "/auth/refresh"
+    };
+
+    @Bean
+    public PasswordEncoder passwordEncoder() {
+        return new BCryptPasswordEncoder();
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public Scheduler passwordHashingScheduler(
+            @Value("${security.password-hashing.max-concurrency:0}") int maxConcurrency,
+            @Value("${security.password-hashing.max-queued:10000}") int maxQueued) {
+        int threads = maxConcurrency > 0 ? maxConcurrency : Runtime.getRuntime().availableProcessors();
+        return Schedulers.newBoundedElastic(threads, maxQueued, "password-hashing");
+    }
+
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity serverHttpSecurity) {
+        return serverHttpSecurity
+                .csrf(ServerHttpSecurity.CsrfSpec::disable)
+                .authorizeExchange(exchange -> exchange
+                        .pathMatchers(HttpMethod.POST, PUBLIC_ENDPOINTS).permitAll()
+                        .anyExchange().authenticated())
+                .oauth2ResourceServer(oauth2 -> oauth2.jwt(jwt -> jwt.jwtDecoder(reactiveCustomJwtDecoder)))
+                .build();
+    }
+}
@@ -0,0 +1,74 @@
+package com.vtlong.my_spring_boot_project.reactive.controller;
+
+import java.net.InetSocketAddress;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.vtlong.my_spring_boot_project.dto.ApiResponse;
+import com.vtlong.my_spring_boot_project.dto.request.IntrospectRequest;
+import com.vtlong.my_spring_boot_project.dto.request.LoginRequest;
+import com.vtlong.my_spring_boot_project.dto.request.RefreshTokenRequest;
+import com.vtlong.my_spring_boot_project.dto.response.IntrospectResponse;
+import com.vtlong.my_spring_boot_project.dto.response.LoginResponse;
+import com.vtlong.my_spring_boot_project.dto.response.RefreshTokenResponse;
+import com.vtlong.my_spring_boot_project.ratelimit.LoginRateLimiter;
+import com.vtlong.my_spring_boot_project.reactive.service.ReactiveAuthService;
+
+import jakarta.validation.Valid;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/auth")
+public class ReactiveAuthController {
+
+    private final ReactiveAuthService authService;
+    private final LoginRateLimiter loginRateLimiter;
+
+    public ReactiveAuthController(ReactiveAuthService authService, LoginRateLimiter loginRateLimiter) {
+        this.authService = authService;
+        this.loginRateLimiter = loginRateLimiter;
+    }
+
+    @PostMapping("/login")
+    public Mono<ResponseEntity<ApiResponse<LoginResponse>>> login(@RequestBody LoginRequest loginRequest,
+            ServerHttpRequest request) {
+        loginRateLimiter.check(clientIp(request), loginRequest.getEmail());
+        return authService.handleLogin(loginRequest)
+                .map(loginResponse -> ok(loginResponse, "Đăng nhập thành công", request));
+    }
+
+    @PostMapping("/introspect")
+    public Mono<ResponseEntity<ApiResponse<IntrospectResponse>>> introspect(
+            @RequestBody IntrospectRequest introspectRequest, ServerHttpRequest request) {
+        return authService.handleIntrospect(introspectRequest)
+                .map(introspectResponse -> ok(introspectResponse, "Kiểm tra token thành công", request));
+    }
+
+    @PostMapping("/refresh")
+    public Mono<ResponseEntity<ApiResponse<RefreshTokenResponse>>> refreshToken(
+            @Valid @RequestBody RefreshTokenRequest refreshTokenRequest, ServerHttpRequest request) {
+        return authService.handleRefreshToken(refreshTokenRequest)
+                .map(refreshTokenResponse -> ok(refreshTokenResponse, "Làm mới token thành công", request));
+    }
+
+    private String clientIp(ServerHttpRequest request) {
+        InetSocketAddress remoteAddress = request.getRemoteAddress();
+        if (remoteAddress == null) {
+            return null;
+        }
+        return remoteAddress.getAddress() != null
+                ? remoteAddress.getAddress().getHostAddress()
+                : remoteAddress.getHostString();
+    }
+
+    private <T> ResponseEntity<ApiResponse<T>> ok(T data, String message, ServerHttpRequest request) {
+        ApiResponse<T> apiResponse = ApiResponse.success(data, message);
+        apiResponse.setPath(request.getPath().value());
+        return ResponseEntity.ok(apiResponse);
+    }
+}
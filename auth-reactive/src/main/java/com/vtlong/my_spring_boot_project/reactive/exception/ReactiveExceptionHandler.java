@@ -0,0 +1,59 @@
+package com.vtlong.my_spring_boot_project.reactive.exception;
+
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.ServerWebInputException;
+
+import com.vtlong.my_spring_boot_project.dto.ApiResponse;
+import com.vtlong.my_spring_boot_project.exception.AppException;
+import com.vtlong.my_spring_boot_project.exception.ErrorCode;
+
+@RestControllerAdvice
+public class ReactiveExceptionHandler {
+
+    @ExceptionHandler(AppException.class)
+    public ResponseEntity<ApiResponse<Object>> handleAppException(AppException ex, ServerHttpRequest request) {
+        ErrorCode errorCode = ex.getErrorCode();
+        HttpStatus httpStatus = errorCode.getHttpStatus();
+
+        return error(ex.getMessage(), httpStatus, errorCode.getCode(), request);
+    }
+
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ApiResponse<Object>> handleValidationExceptions(WebExchangeBindException ex,
+            ServerHttpRequest request) {
+        List<String> errors = ex.getBindingResult()
+                .getFieldErrors()
+                .stream()
+                .map(FieldError::getDefaultMessage)
+                .toList();
+
+        return error("Invalid request parameters", HttpStatus.BAD_REQUEST, errors, request);
+    }
+
+    @ExceptionHandler(ServerWebInputException.class)
+    public ResponseEntity<ApiResponse<Object>> handleServerWebInput(ServerWebInputException ex,
+            ServerHttpRequest request) {
+        return error("Request body format is invalid", HttpStatus.BAD_REQUEST, "Invalid JSON", request);
+    }
+
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ApiResponse<Object>> handleGenericException(Exception ex, ServerHttpRequest request) {
+        return error("An unexpected error occurred. Please try again later.", HttpStatus.INTERNAL_SERVER_ERROR,
+                "Internal Server Error", request);
+    }
+
+    private ResponseEntity<ApiResponse<Object>> error(String message, HttpStatus httpStatus, Object error,
+            ServerHttpRequest request) {
+        ApiResponse<Object> apiResponse = ApiResponse.error(message, httpStatus.value(), error);
+        apiResponse.setPath(request.getPath().value());
+        return ResponseEntity.status(httpStatus).body(apiResponse);
+    }
+}
@@ -0,0 +1,20 @@
+package com.vtlong.my_spring_boot_project.reactive.model;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("invalidated_tokens")
+public class InvalidatedToken {
+    @Id
+    private String id;
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,25 @@
+package com.vtlong.my_spring_boot_project.reactive.model;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("refresh_tokens")
+public class RefreshToken {
+    @Id
+    private String id;
+    private String tokenHash;
+    private String familyId;
+    private String userId;
+    private LocalDateTime expiresAt;
+    private boolean revoked;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,21 @@
+package com.vtlong.my_spring_boot_project.reactive.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("users")
+public class User {
+    @Id
+    private String id;
+    private String username;
+    private String email;
+    private String password;
+    private long tokenGeneration;
+}
@@ -0,0 +1,11 @@
+package com.vtlong.my_spring_boot_project.reactive.repository;
+
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+
+import com.vtlong.my_spring_boot_project.reactive.model.InvalidatedToken;
+
+@Repository
+public interface ReactiveInvalidatedTokenRepository extends R2dbcRepository<InvalidatedToken, String> {
+
+}
@@ -0,0 +1,31 @@
+package com.vtlong.my_spring_boot_project.reactive.repository;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+
+import com.vtlong.my_spring_boot_project.reactive.model.RefreshToken;
+
+import reactor.core.publisher.Mono;
+
+@Repository
+public interface ReactiveRefreshTokenRepository extends R2dbcRepository<RefreshToken, String> {
+    Mono<RefreshToken> findByTokenHash(String tokenHash);
+
+    @Modifying
+    @Query("INSERT INTO refresh_tokens (id, token_hash, family_id, user_id, expires_at, revoked, created_at) "
+            + "VALUES (:id, :tokenHash, :familyId, :userId, :expiresAt, false, :createdAt)")
+    Mono<Integer> insert(String id, String tokenHash, String familyId, String userId, LocalDateTime expiresAt,
+            LocalDateTime createdAt);
+
+    @Modifying
+    @Query("UPDATE refresh_tokens SET revoked = true WHERE id = :id AND revoked = false")
+    Mono<Integer> markRevoked(String id);
+
+    @Modifying
+    @Query("UPDATE refresh_tokens SET revoked = true WHERE family_id = :familyId")
+    Mono<Integer> revokeFamily(String familyId);
+}
@@ -0,0 +1,21 @@
+package com.vtlong.my_spring_boot_project.reactive.repository;
+
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+
+import com.vtlong.my_spring_boot_project.reactive.model.User;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Repository
+public interface ReactiveUserRepository extends R2dbcRepository<User, String> {
+    Mono<User> findByEmail(String email);
+
+    @Query("SELECT r.name FROM roles r JOIN user_roles ur ON ur.role_id = r.id WHERE ur.user_id = :userId")
+    Flux<String> findRoleNamesByUserId(String userId);
+
+    @Query("SELECT token_generation FROM users WHERE id = :id")
+    Mono<Long> findTokenGenerationById(String id);
+}
@@ -0,0 +1,196 @@
+package com.vtlong.my_spring_boot_project.reactive.service;
+
+import java.text.ParseException;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSObject;
+import com.nimbusds.jose.Payload;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.vtlong.my_spring_boot_project.config.JwtConfig;
+import com.vtlong.my_spring_boot_project.config.JwtKeyProvider;
+import com.vtlong.my_spring_boot_project.dto.request.IntrospectRequest;
+import com.vtlong.my_spring_boot_project.dto.request.LoginRequest;
+import com.vtlong.my_spring_boot_project.dto.request.RefreshTokenRequest;
+import com.vtlong.my_spring_boot_project.dto.response.IntrospectResponse;
+import com.vtlong.my_spring_boot_project.dto.response.LoginResponse;
+import com.vtlong.my_spring_boot_project.dto.response.RefreshTokenResponse;
+import com.vtlong.my_spring_boot_project.exception.AppException;
+import com.vtlong.my_spring_boot_project.exception.ErrorCode;
+import com.vtlong.my_spring_boot_project.reactive.model.User;
+import com.vtlong.my_spring_boot_project.reactive.repository.ReactiveInvalidatedTokenRepository;
+import com.vtlong.my_spring_boot_project.reactive.repository.ReactiveUserRepository;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+@Service
+public class ReactiveAuthService {
+
+    private static final String AUDIENCE = "my-spring-app";
+    private static final IntrospectResponse INVALID = IntrospectResponse.builder().valid(false).build();
+
+    private final ReactiveUserRepository userRepository;
+    private final ReactiveInvalidatedTokenRepository invalidatedTokenRepository;
+    private final ReactiveTokenGenerationService tokenGenerationService;
+    private final ReactiveRefreshTokenService refreshTokenService;
+    private final PasswordEncoder passwordEncoder;
+    private final Scheduler passwordHashingScheduler;
+    private final JwtConfig jwtConfig;
+    private final JwtKeyProvider jwtKeyProvider;
+    private final String dummyPasswordHash;
+
+    public ReactiveAuthService(ReactiveUserRepository userRepository,
+            ReactiveInvalidatedTokenRepository invalidatedTokenRepository,
+            ReactiveTokenGenerationService tokenGenerationService, ReactiveRefreshTokenService refreshTokenService,
+            PasswordEncoder passwordEncoder, Scheduler passwordHashingScheduler, JwtConfig jwtConfig,
+            JwtKeyProvider jwtKeyProvider) {
+        this.userRepository = userRepository;
+        this.invalidatedTokenRepository = invalidatedTokenRepository;
+        this.tokenGenerationService = tokenGenerationService;
+        this.refreshTokenService = refreshTokenService;
+        this.passwordEncoder = passwordEncoder;
+        this.passwordHashingScheduler = passwordHashingScheduler;
+        this.jwtConfig = jwtConfig;
+        this.jwtKeyProvider = jwtKeyProvider;
+        this.dummyPasswordHash = passwordEncoder.encode(UUID.randomUUID().toString());
+    }
+
+    public Mono<LoginResponse> handleLogin(LoginRequest loginRequest) {
+        return userRepository.findByEmail(loginRequest.getEmail())
+                .flatMap(user -> passwordMatches(loginRequest.getPassword(), user.getPassword())
+                        .flatMap(matches -> matches
+                                ? Mono.just(user)
+                                : Mono.<User>error(AppException.stackless(ErrorCode.INVALID_CREDENTIALS))))
+                .switchIfEmpty(Mono.defer(() -> rejectUnknownUser(loginRequest)))
+                .flatMap(user -> generateToken(user)
+                        .zipWith(refreshTokenService.issue(user.getId())))
+                .map(tokens -> LoginResponse.builder()
+                        .success(true)
+                        .token(tokens.getT1())
+                        .refreshToken(tokens.getT2())
+                        .build());
+    }
+
+    private Mono<User> rejectUnknownUser(LoginRequest loginRequest) {
+        return passwordMatches(loginRequest.getPassword(), dummyPasswordHash)
+                .then(Mono.error(AppException.stackless(ErrorCode.INVALID_CREDENTIALS)));
+    }
+
+    public Mono<IntrospectResponse> handleIntrospect(IntrospectRequest introspectRequest) {
+        return Mono.fromCallable(() -> verify(introspectRequest.getToken()))
+                .flatMap(claims -> invalidatedTokenRepository.existsById(claims.getJWTID())
+                        .flatMap(revoked -> revoked ? Mono.just(false) : isCurrentGeneration(claims))
+                        .map(valid -> valid ? toResponse(claims) : INVALID))
+                .defaultIfEmpty(INVALID);
+    }
+
+    public Mono<RefreshTokenResponse> handleRefreshToken(RefreshTokenRequest refreshTokenRequest) {
+        return refreshTokenService.rotate(refreshTokenRequest.getRefreshToken())
+                .flatMap(rotated -> userRepository.findById(rotated.userId())
+                        .switchIfEmpty(Mono.error(() -> new AppException(ErrorCode.USER_NOT_FOUND, "User not found")))
+                        .flatMap(this::generateToken)
+                        .map(newToken -> RefreshTokenResponse.builder()
+                                .success(true)
+                                .token(newToken)
+                                .refreshToken(rotated.token())
+                                .message("Token làm mới thành công")
+                                .build()));
+    }
+
+    private Mono<Boolean> passwordMatches(String rawPassword, String encodedPassword) {
+        return Mono.fromCallable(() -> passwordEncoder.matches(rawPassword, encodedPassword))
+                .subscribeOn(passwordHashingScheduler);
+    }
+
+    private Mono<String> generateToken(User user) {
+        return userRepository.findRoleNamesByUserId(user.getId())
+                .collectList()
+                .map(roleNames -> signToken(user, roleNames));
+    }
+
+    private String signToken(User user, List<String> roleNames) {
+        JWTClaimsSet jwsClaimsSet = new JWTClaimsSet.Builder()
+                .subject(user.getEmail())
+                .issuer("vtlong.com")
+                .audience(AUDIENCE)
+                .issueTime(new Date())
+                .expirationTime(new Date(System.currentTimeMillis() + 1000L * 60 * jwtConfig.getAccessTokenExpirationMinutes()))
+                .jwtID(UUID.randomUUID().toString())
+                .claim("userId", user.getId())
+                .claim("username", user.getUsername())
+                .claim("email", user.getEmail())
+                .claim("scope", roleNames)
+                .claim("gen", user.getTokenGeneration())
+                .build();
+
+        JWSObject jwsObject = new JWSObject(jwtKeyProvider.getHeader(), new Payload(jwsClaimsSet.toJSONObject()));
+
+        try {
+            jwsObject.sign(jwtKeyProvider.getSigner());
+        } catch (JOSEException e) {
+            throw new AppException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+
+        return jwsObject.serialize();
+    }
+
+    private JWTClaimsSet verify(String token) {
+        if (token == null) {
+            return null;
+        }
+
+        try {
+            SignedJWT signedJWT = SignedJWT.parse(token);
+            JWTClaimsSet claims = signedJWT.getJWTClaimsSet();
+            Date expirationTime = claims.getExpirationTime();
+
+            if (expirationTime == null || expirationTime.before(new Date())) {
+                return null;
+            }
+
+            if (!jwtKeyProvider.verify(signedJWT)) {
+                return null;
+            }
+
+            if (claims.getAudience() == null || !claims.getAudience().contains(AUDIENCE)
+                    || claims.getJWTID() == null) {
+                return null;
+            }
+
+            return claims;
+        } catch (ParseException | JOSEException e) {
+            return null;
+        }
+    }
+
+    private Mono<Boolean> isCurrentGeneration(JWTClaimsSet claims) {
+        try {
+            Long generation = claims.getLongClaim("gen");
+            return tokenGenerationService.isCurrent(claims.getStringClaim("userId"),
+                    generation != null ? generation : 0L);
+        } catch (ParseException e) {
+            return Mono.just(false);
+        }
+    }
+
+    private IntrospectResponse toResponse(JWTClaimsSet claims) {
+        try {
+            return IntrospectResponse.builder()
+                    .valid(true)
+                    .sub(claims.getSubject())
+                    .userId(claims.getStringClaim("userId"))
+                    .scope(claims.getStringListClaim("scope"))
+                    .exp(claims.getExpirationTime().getTime() / 1000)
+                    .build();
+        } catch (ParseException e) {
+            return INVALID;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.vtlong.my_spring_boot_project.reactive.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+import org.springframework.stereotype.Service;
+
+import com.vtlong.my_spring_boot_project.config.JwtConfig;
+import com.vtlong.my_spring_boot_project.exception.AppException;
+import com.vtlong.my_spring_boot_project.exception.ErrorCode;
+import com.vtlong.my_spring_boot_project.reactive.model.RefreshToken;
+import com.vtlong.my_spring_boot_project.reactive.repository.ReactiveRefreshTokenRepository;
+
+import reactor.core.publisher.Mono;
+
+@Service
+public class ReactiveRefreshTokenService {
+
+    private static final int TOKEN_BYTES = 32;
+    private static final AppException INVALID_REFRESH_TOKEN = AppException
+            .stackless(ErrorCode.INVALID_CREDENTIALS, "Invalid refresh token");
+    private static final AppException REFRESH_TOKEN_REUSED = AppException
+            .stackless(ErrorCode.INVALID_CREDENTIALS, "Refresh token reuse detected");
+    private static final AppException REFRESH_TOKEN_EXPIRED = AppException
+            .stackless(ErrorCode.INVALID_CREDENTIALS, "Refresh token has expired");
+
+    private final ReactiveRefreshTokenRepository refreshTokenRepository;
+    private final JwtConfig jwtConfig;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    public ReactiveRefreshTokenService(ReactiveRefreshTokenRepository refreshTokenRepository, JwtConfig jwtConfig) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.jwtConfig = jwtConfig;
+    }
+
+    public record RotatedRefreshToken(String userId, String token) {
+    }
+
+    public Mono<String> issue(String userId) {
+        return issue(userId, UUID.randomUUID().toString());
+    }
+
+    public Mono<RotatedRefreshToken> rotate(String token) {
+        if (token == null) {
+            return Mono.error(INVALID_REFRESH_TOKEN);
+        }
+
+        return refreshTokenRepository.findByTokenHash(hash(token))
+                .switchIfEmpty(Mono.error(INVALID_REFRESH_TOKEN))
+                .flatMap(current -> refreshTokenRepository.markRevoked(current.getId())
+                        .flatMap(updated -> rotate(current, updated)));
+    }
+
+    private Mono<RotatedRefreshToken> rotate(RefreshToken current, int updated) {
+        if (updated == 0) {
+            return refreshTokenRepository.revokeFamily(current.getFamilyId())
+                    .then(Mono.error(REFRESH_TOKEN_REUSED));
+        }
+
+        if (current.getExpiresAt().isBefore(LocalDateTime.now())) {
+            return Mono.error(REFRESH_TOKEN_EXPIRED);
+        }
+
+        return issue(current.getUserId(), current.getFamilyId())
+                .map(newToken -> new RotatedRefreshToken(current.getUserId(), newToken));
+    }
+
+    private Mono<String> issue(String userId, String familyId) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        LocalDateTime now = LocalDateTime.now();
+
+        return refreshTokenRepository.insert(UUID.randomUUID().toString(), hash(token), familyId, userId,
+                now.plusDays(jwtConfig.getRefreshTokenExpirationDays()), now)
+                .thenReturn(token);
+    }
+
+    private String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
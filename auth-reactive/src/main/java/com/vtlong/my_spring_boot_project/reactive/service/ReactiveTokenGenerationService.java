@@ -0,0 +1,49 @@
+package com.vtlong.my_spring_boot_project.reactive.service;
+
+import java.time.Duration;
+
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.vtlong.my_spring_boot_project.config.JwtConfig;
+import com.vtlong.my_spring_boot_project.reactive.repository.ReactiveUserRepository;
+
+import reactor.core.publisher.Mono;
+
+@Service
+public class ReactiveTokenGenerationService {
+
+    private static final long REVOKED = Long.MAX_VALUE;
+
+    private final ReactiveUserRepository userRepository;
+    private final Cache<String, Long> generations;
+
+    public ReactiveTokenGenerationService(ReactiveUserRepository userRepository, JwtConfig jwtConfig) {
+        this.userRepository = userRepository;
+        long accessTokenSeconds = jwtConfig.getAccessTokenExpirationMinutes() * 60L;
+        long ttlSeconds = Math.max(1, Math.min(jwtConfig.getGenerationCacheTtlSeconds(), accessTokenSeconds));
+        this.generations = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(jwtConfig.getGenerationCacheMaxSize())
+                .build();
+    }
+
+    public Mono<Boolean> isCurrent(String userId, long generation) {
+        if (userId == null) {
+            return Mono.just(false);
+        }
+
+        Long current = generations.getIfPresent(userId);
+        if (current != null && (generation <= current || current == REVOKED)) {
+            return Mono.just(generation == current);
+        }
+
+        return userRepository.findTokenGenerationById(userId)
+                .defaultIfEmpty(REVOKED)
+                .map(loaded -> {
+                    generations.put(userId, loaded);
+                    return generation == loaded;
+                });
+    }
+}
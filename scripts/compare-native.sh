@@ -0,0 +1,107 @@
+#!/usr/bin/env bash
+#
+# Builds the JVM jar and the GraalVM native image, starts each against the
+# database configured in the environment (or .env), and compares time to
+# healthy, RSS after startup, steady-state /users/me throughput and RSS
+# under load.
+#
+# Requirements: a GraalVM JDK for nativeCompile, curl, hey
+# (https://github.com/rakyll/hey) and a reachable MySQL.
+#
+# Usage: scripts/compare-native.sh [duration-seconds] [concurrency]
+
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+DURATION="${1:-30}"
+CONCURRENCY="${2:-32}"
+PORT="${SERVER_PORT:-8080}"
+BASE_URL="http://localhost:${PORT}"
+PROFILE="${SPRING_PROFILES_ACTIVE:-prod}"
+if [[ ",${PROFILE}," == *",prod,"* ]]; then
+    MANAGEMENT_URL="http://localhost:${MANAGEMENT_SERVER_PORT:-9091}"
+else
+    MANAGEMENT_URL="${BASE_URL}"
+fi
+WORK_DIR="build/native-comparison"
+REPORT="${WORK_DIR}/report.md"
+
+for tool in curl hey; do
+    command -v "$tool" >/dev/null || { echo "$tool is required" >&2; exit 1; }
+done
+
+mkdir -p "$WORK_DIR"
+
+./gradlew -q bootJar
+cp "$(ls build/libs/*.jar | grep -v -- '-plain.jar' | head -n 1)" "${WORK_DIR}/app.jar"
+./gradlew -q -Pnative -PaotProfiles="$PROFILE" nativeCompile
+cp build/native/nativeCompile/my-spring-boot-project "${WORK_DIR}/app-native"
+
+rss_kb() {
+    ps -o rss= -p "$1" | tr -d ' '
+}
+
+wait_healthy() {
+    local pid="$1"
+    for _ in $(seq 1 1200); do
+        if curl -sf "${MANAGEMENT_URL}/actuator/health" | grep -q '"UP"'; then
+            return 0
+        fi
+        kill -0 "$pid" 2>/dev/null || return 1
+        sleep 0.1
+    done
+    return 1
+}
+
+measure() {
+    local name="$1"
+    shift
+
+    local started ready pid
+    started=$(date +%s%N)
+    SPRING_PROFILES_ACTIVE="$PROFILE" "$@" >"${WORK_DIR}/${name}.log" 2>&1 &
+    pid=$!
+    if ! wait_healthy "$pid"; then
+        echo "${name} did not become healthy, see ${WORK_DIR}/${name}.log" >&2
+        kill "$pid" 2>/dev/null || true
+        exit 1
+    fi
+    ready=$(( ($(date +%s%N) - started) / 1000000 ))
+    local rss_started
+    rss_started=$(rss_kb "$pid")
+
+    local token
+    token=$(curl -sf -H 'Content-Type: application/json' \
+        -d '{"email":"admin@example.com","password":"12345678"}' "${BASE_URL}/auth/login" \
+        | sed -n 's/.*"token":"\([^"]*\)".*/\1/p')
+
+    hey -z 5s -c "$CONCURRENCY" -H "Authorization: Bearer ${token}" "${BASE_URL}/users/me" >/dev/null
+    hey -z "${DURATION}s" -c "$CONCURRENCY" -H "Authorization: Bearer ${token}" "${BASE_URL}/users/me" \
+        >"${WORK_DIR}/${name}-hey.txt"
+    local rss_loaded
+    rss_loaded=$(rss_kb "$pid")
+
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+
+    local rps p99
+    rps=$(awk '/Requests\/sec:/ {print $2}' "${WORK_DIR}/${name}-hey.txt")
+    p99=$(awk '/ 99% in / {print $3 * 1000}' "${WORK_DIR}/${name}-hey.txt")
+    printf '| %s | %d | %d | %s | %s | %d |\n' "$name" "$ready" $((rss_started / 1024)) "$rps" "$p99" \
+        $((rss_loaded / 1024)) >>"$REPORT"
+}
+
+{
+    echo "# JVM vs native image"
+    echo
+    echo "Profile: ${PROFILE}, load: GET /users/me for ${DURATION}s at concurrency ${CONCURRENCY} after a 5s warmup."
+    echo
+    echo "| Build | Time to healthy (ms) | RSS after start (MB) | Throughput (req/s) | p99 (ms) | RSS under load (MB) |"
+    echo "|---|---:|---:|---:|---:|---:|"
+} >"$REPORT"
+
+measure jvm java -jar "${WORK_DIR}/app.jar"
+measure native "${WORK_DIR}/app-native"
+
+cat "$REPORT"
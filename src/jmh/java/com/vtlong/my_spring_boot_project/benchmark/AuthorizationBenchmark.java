@@ -0,0 +1,102 @@
+package com.vtlong.my_spring_boot_project.benchmark;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+import org.springframework.security.access.expression.SecurityExpressionRoot;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
+import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
+
+import com.vtlong.my_spring_boot_project.config.RoleAuthorizationManager;
+import com.vtlong.my_spring_boot_project.config.RoleJwtAuthenticationConverter;
+import com.vtlong.my_spring_boot_project.model.RoleType;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AuthorizationBenchmark {
+
+    private Jwt jwt;
+    private JwtAuthenticationConverter legacyConverter;
+    private RoleJwtAuthenticationConverter roleConverter;
+    private Expression anyRoleExpression;
+    private Expression adminExpression;
+    private AuthorizationManager<Object> anyRoleManager;
+    private AuthorizationManager<Object> adminManager;
+
+    @Setup
+    public void setUp() {
+        jwt = Jwt.withTokenValue("token")
+                .header("alg", "HS512")
+                .subject("admin@example.com")
+                .claim("userId", "00000000-0000-0000-0000-000000000000")
+                .claim("scope", List.of("ADMIN", "MODERATOR", "USER"))
+                .issuedAt(Instant.now())
+                .expiresAt(Instant.now().plusSeconds(900))
+                .build();
+
+        JwtGrantedAuthoritiesConverter jwtGrantedAuthoritiesConverter = new JwtGrantedAuthoritiesConverter();
+        jwtGrantedAuthoritiesConverter.setAuthorityPrefix("ROLE_");
+        legacyConverter = new JwtAuthenticationConverter();
+        legacyConverter.setJwtGrantedAuthoritiesConverter(jwtGrantedAuthoritiesConverter);
+        roleConverter = new RoleJwtAuthenticationConverter();
+
+        SpelExpressionParser parser = new SpelExpressionParser();
+        anyRoleExpression = parser.parseExpression("hasRole('USER') or hasRole('ADMIN') or hasRole('MODERATOR')");
+        adminExpression = parser.parseExpression("hasRole('ADMIN')");
+
+        anyRoleManager = RoleAuthorizationManager.hasAnyRole(RoleType.USER, RoleType.ADMIN, RoleType.MODERATOR);
+        adminManager = RoleAuthorizationManager.hasAnyRole(RoleType.ADMIN);
+    }
+
+    @Benchmark
+    public boolean spelUserEndpoint() {
+        AbstractAuthenticationToken authentication = legacyConverter.convert(jwt);
+        return evaluate(anyRoleExpression, authentication);
+    }
+
+    @Benchmark
+    public boolean spelAdminEndpoint() {
+        AbstractAuthenticationToken authentication = legacyConverter.convert(jwt);
+        return evaluate(adminExpression, authentication) && evaluate(adminExpression, authentication);
+    }
+
+    @Benchmark
+    public boolean compiledUserEndpoint() {
+        AbstractAuthenticationToken authentication = roleConverter.convert(jwt);
+        return anyRoleManager.check(() -> authentication, null).isGranted();
+    }
+
+    @Benchmark
+    public boolean compiledAdminEndpoint() {
+        AbstractAuthenticationToken authentication = roleConverter.convert(jwt);
+        return adminManager.check(() -> authentication, null).isGranted();
+    }
+
+    private boolean evaluate(Expression expression, Authentication authentication) {
+        SecurityExpressionRoot root = new SecurityExpressionRoot(authentication) {
+        };
+        return Boolean.TRUE.equals(expression.getValue(new StandardEvaluationContext(root), Boolean.class));
+    }
+}
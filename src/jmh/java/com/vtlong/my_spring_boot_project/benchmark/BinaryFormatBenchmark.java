@@ -0,0 +1,132 @@
+package com.vtlong.my_spring_boot_project.benchmark;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.vtlong.my_spring_boot_project.dto.ApiResponse;
+import com.vtlong.my_spring_boot_project.dto.ApiResponseSerializer;
+import com.vtlong.my_spring_boot_project.dto.response.IntrospectResponse;
+import com.vtlong.my_spring_boot_project.dto.response.UserResponseDto;
+import com.vtlong.my_spring_boot_project.model.Gender;
+import com.vtlong.my_spring_boot_project.model.RoleType;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BinaryFormatBenchmark {
+
+    @Param({ "json", "cbor", "smile" })
+    private String format;
+
+    private ObjectMapper objectMapper;
+    private ApiResponse<IntrospectResponse> introspectResponse;
+    private ApiResponse<List<UserResponseDto>> userListResponse;
+    private byte[] encodedIntrospect;
+    private byte[] encodedUserList;
+
+    @Setup
+    public void setUp() throws Exception {
+        JsonFactory factory = switch (format) {
+            case "cbor" -> new CBORFactory();
+            case "smile" -> new SmileFactory();
+            default -> new JsonFactory();
+        };
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .factory(factory)
+                .modulesToInstall(new SimpleModule().addSerializer(new ApiResponseSerializer()))
+                .build();
+
+        introspectResponse = ApiResponse.success(IntrospectResponse.builder()
+                .valid(true)
+                .sub("admin@example.com")
+                .userId("00000000-0000-0000-0000-000000000000")
+                .scope(List.of("ADMIN", "MODERATOR", "USER"))
+                .exp(1_790_000_000L)
+                .build(), "Kiểm tra token thành công");
+        introspectResponse.setPath("/auth/introspect");
+
+        List<UserResponseDto> users = new ArrayList<>(100);
+        for (int i = 0; i < 100; i++) {
+            LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 8, 0).plusMinutes(i);
+            users.add(UserResponseDto.builder()
+                    .id(UUID.nameUUIDFromBytes(("user-" + i).getBytes()).toString())
+                    .username("user" + i)
+                    .email("user" + i + "@example.com")
+                    .firstName("Văn")
+                    .lastName("Nguyễn")
+                    .gender(Gender.MALE)
+                    .dateOfBirth(LocalDate.of(1995, 5, 20))
+                    .phone("+84 912 345 678")
+                    .address("Hà Nội, Việt Nam")
+                    .roles(EnumSet.of(RoleType.USER))
+                    .createdAt(createdAt)
+                    .updatedAt(createdAt)
+                    .build());
+        }
+        userListResponse = ApiResponse.success(users, "Lấy danh sách người dùng thành công");
+        userListResponse.setPath("/admin/users");
+
+        encodedIntrospect = objectMapper.writeValueAsBytes(introspectResponse);
+        encodedUserList = objectMapper.writeValueAsBytes(userListResponse);
+    }
+
+    @Benchmark
+    public byte[] writeIntrospect(PayloadSize size) throws Exception {
+        byte[] encoded = objectMapper.writeValueAsBytes(introspectResponse);
+        size.bytes = encoded.length;
+        return encoded;
+    }
+
+    @Benchmark
+    public JsonNode readIntrospect(PayloadSize size) throws Exception {
+        size.bytes = encodedIntrospect.length;
+        return objectMapper.readTree(encodedIntrospect);
+    }
+
+    @Benchmark
+    public byte[] writeUserList(PayloadSize size) throws Exception {
+        byte[] encoded = objectMapper.writeValueAsBytes(userListResponse);
+        size.bytes = encoded.length;
+        return encoded;
+    }
+
+    @Benchmark
+    public JsonNode readUserList(PayloadSize size) throws Exception {
+        size.bytes = encodedUserList.length;
+        return objectMapper.readTree(encodedUserList);
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PayloadSize {
+        public long bytes;
+    }
+}
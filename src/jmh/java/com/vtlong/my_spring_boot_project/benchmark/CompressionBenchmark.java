@@ -0,0 +1,103 @@
+package com.vtlong.my_spring_boot_project.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.vtlong.my_spring_boot_project.dto.ApiResponse;
+import com.vtlong.my_spring_boot_project.dto.ApiResponseSerializer;
+import com.vtlong.my_spring_boot_project.dto.response.UserResponseDto;
+import com.vtlong.my_spring_boot_project.model.Gender;
+import com.vtlong.my_spring_boot_project.model.RoleType;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompressionBenchmark {
+
+    @Param({ "1", "6", "9" })
+    private int level;
+
+    @Param({ "100", "1000" })
+    private int users;
+
+    private byte[] payload;
+
+    @Setup
+    public void setUp() throws IOException {
+        List<UserResponseDto> userList = new ArrayList<>(users);
+        for (int i = 0; i < users; i++) {
+            LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 8, 0).plusMinutes(i);
+            userList.add(UserResponseDto.builder()
+                    .id(UUID.nameUUIDFromBytes(("user-" + i).getBytes()).toString())
+                    .username("user" + i)
+                    .email("user" + i + "@example.com")
+                    .firstName("Văn")
+                    .lastName("Nguyễn")
+                    .gender(i % 2 == 0 ? Gender.MALE : Gender.FEMALE)
+                    .dateOfBirth(LocalDate.of(1990, 1, 1).plusDays(i))
+                    .phone("+84 912 345 678")
+                    .address("Hà Nội, Việt Nam")
+                    .roles(EnumSet.of(RoleType.USER))
+                    .createdAt(createdAt)
+                    .updatedAt(createdAt)
+                    .build());
+        }
+
+        ApiResponse<List<UserResponseDto>> apiResponse = ApiResponse.success(userList,
+                "Lấy danh sách người dùng thành công");
+        apiResponse.setPath("/admin/users");
+        payload = Jackson2ObjectMapperBuilder.json()
+                .modulesToInstall(new SimpleModule().addSerializer(new ApiResponseSerializer()))
+                .build()
+                .writeValueAsBytes(apiResponse);
+    }
+
+    @Benchmark
+    public byte[] gzip(PayloadSize size) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(payload.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out, 8192) {
+            {
+                def.setLevel(level);
+            }
+        }) {
+            gzip.write(payload);
+        }
+        byte[] compressed = out.toByteArray();
+        size.identityBytes = payload.length;
+        size.gzipBytes = compressed.length;
+        return compressed;
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PayloadSize {
+        public long identityBytes;
+        public long gzipBytes;
+    }
+}
@@ -0,0 +1,64 @@
+package com.vtlong.my_spring_boot_project.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vtlong.my_spring_boot_project.dto.ApiResponse;
+import com.vtlong.my_spring_boot_project.exception.AppException;
+import com.vtlong.my_spring_boot_project.exception.ErrorCode;
+import com.vtlong.my_spring_boot_project.exception.ErrorResponseTemplates;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ErrorResponseBenchmark {
+
+    private static final String PATH = "/auth/login";
+
+    private ObjectMapper objectMapper;
+    private ErrorResponseTemplates errorResponseTemplates;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        errorResponseTemplates = new ErrorResponseTemplates(objectMapper);
+    }
+
+    @Benchmark
+    public byte[] stackTraceAndBuilder() throws Exception {
+        AppException ex = throwAndCatch(new AppException(ErrorCode.INVALID_CREDENTIALS));
+        ApiResponse<Object> apiResponse = ApiResponse.error(ex.getMessage(),
+                ex.getErrorCode().getHttpStatus().value(), ex.getErrorCode().getCode());
+        apiResponse.setPath(PATH);
+        return objectMapper.writeValueAsBytes(apiResponse);
+    }
+
+    @Benchmark
+    public byte[] stacklessAndTemplate() {
+        AppException ex = throwAndCatch(AppException.stackless(ErrorCode.INVALID_CREDENTIALS));
+        return errorResponseTemplates.render(ex, PATH);
+    }
+
+    private AppException throwAndCatch(AppException ex) {
+        try {
+            throw ex;
+        } catch (AppException caught) {
+            return caught;
+        }
+    }
+}
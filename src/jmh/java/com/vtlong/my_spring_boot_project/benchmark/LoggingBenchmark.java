@@ -0,0 +1,136 @@
+package com.vtlong.my_spring_boot_project.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.MDC;
+import org.springframework.boot.logging.logback.StructuredLogEncoder;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.StandardEnvironment;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import ch.qos.logback.core.encoder.Encoder;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class LoggingBenchmark {
+
+    private Path logDirectory;
+    private LoggerContext loggerContext;
+    private Logger syncPatternLogger;
+    private Logger asyncJsonLogger;
+    private AsyncAppender asyncAppender;
+
+    @Setup
+    public void setUp() throws IOException {
+        logDirectory = Files.createTempDirectory("logging-benchmark");
+        loggerContext = new LoggerContext();
+        loggerContext.putObject(Environment.class.getName(), new StandardEnvironment());
+
+        PatternLayoutEncoder patternEncoder = new PatternLayoutEncoder();
+        patternEncoder.setContext(loggerContext);
+        patternEncoder.setPattern("%d{yyyy-MM-dd HH:mm:ss} [%thread] [%X{correlationId:-}] %-5level %logger{36} - %msg%n");
+        patternEncoder.start();
+        syncPatternLogger = logger("sync", fileAppender("sync.log", patternEncoder, true));
+
+        StructuredLogEncoder jsonEncoder = new StructuredLogEncoder();
+        jsonEncoder.setContext(loggerContext);
+        jsonEncoder.setFormat("ecs");
+        jsonEncoder.start();
+
+        asyncAppender = new AsyncAppender();
+        asyncAppender.setContext(loggerContext);
+        asyncAppender.setQueueSize(8192);
+        asyncAppender.setDiscardingThreshold(819);
+        asyncAppender.setNeverBlock(true);
+        asyncAppender.setIncludeCallerData(false);
+        asyncAppender.addAppender(fileAppender("async.json", jsonEncoder, false));
+        asyncAppender.start();
+        asyncJsonLogger = logger("async", asyncAppender);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        loggerContext.stop();
+        try (var files = Files.list(logDirectory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.deleteIfExists(file);
+            }
+        }
+        Files.deleteIfExists(logDirectory);
+    }
+
+    @Benchmark
+    public void syncPatternFile(RequestContext requestContext) {
+        syncPatternLogger.info("Login succeeded for user {}", "admin@example.com");
+    }
+
+    @Benchmark
+    public void asyncJsonFile(RequestContext requestContext) {
+        asyncJsonLogger.info("Login succeeded for user {}", "admin@example.com");
+    }
+
+    @Benchmark
+    public void disabledSqlDebug(RequestContext requestContext) {
+        asyncJsonLogger.debug("select u1_0.id from users u1_0 where u1_0.email=?");
+    }
+
+    @State(Scope.Thread)
+    public static class RequestContext {
+
+        @Setup
+        public void setUp() {
+            MDC.put("correlationId", Long.toHexString(Thread.currentThread().getId()));
+        }
+
+        @TearDown
+        public void tearDown() {
+            MDC.clear();
+        }
+    }
+
+    private FileAppender<ILoggingEvent> fileAppender(String fileName, Encoder<ILoggingEvent> encoder,
+            boolean immediateFlush) {
+        FileAppender<ILoggingEvent> appender = new FileAppender<>();
+        appender.setContext(loggerContext);
+        appender.setFile(logDirectory.resolve(fileName).toString());
+        appender.setEncoder(encoder);
+        appender.setImmediateFlush(immediateFlush);
+        appender.start();
+        return appender;
+    }
+
+    private Logger logger(String name, Appender<ILoggingEvent> appender) {
+        Logger logger = loggerContext.getLogger(name);
+        logger.setLevel(Level.INFO);
+        logger.setAdditive(false);
+        logger.addAppender(appender);
+        return logger;
+    }
+}
@@ -0,0 +1,109 @@
+package com.vtlong.my_spring_boot_project.benchmark;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vtlong.my_spring_boot_project.dto.ApiResponse;
+import com.vtlong.my_spring_boot_project.dto.response.UserResponseDto;
+import com.vtlong.my_spring_boot_project.model.Gender;
+import com.vtlong.my_spring_boot_project.model.Role;
+import com.vtlong.my_spring_boot_project.model.RoleType;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserListSerializationBenchmark {
+
+    @Param({ "100", "1000" })
+    private int users;
+
+    private ObjectMapper objectMapper;
+    private ApiResponse<List<LegacyUserResponseDto>> legacyResponse;
+    private ApiResponse<List<UserResponseDto>> leanResponse;
+
+    @Setup
+    public void setUp() throws Exception {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        Set<Role> roleEntities = Set.of(
+                Role.builder().id(1L).name(RoleType.ADMIN).build(),
+                Role.builder().id(3L).name(RoleType.USER).build());
+        Set<RoleType> roleTypes = EnumSet.of(RoleType.ADMIN, RoleType.USER);
+
+        List<LegacyUserResponseDto> legacyUsers = new ArrayList<>(users);
+        List<UserResponseDto> leanUsers = new ArrayList<>(users);
+        for (int i = 0; i < users; i++) {
+            String id = UUID.nameUUIDFromBytes(("user-" + i).getBytes()).toString();
+            LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 8, 0).plusMinutes(i);
+            legacyUsers.add(new LegacyUserResponseDto(id, "user" + i, "user" + i + "@example.com", "Văn",
+                    "Nguyễn", Gender.MALE, LocalDate.of(1995, 5, 20), "+84 912 345 678", "Hà Nội, Việt Nam",
+                    roleEntities, createdAt, createdAt));
+            leanUsers.add(UserResponseDto.builder()
+                    .id(id)
+                    .username("user" + i)
+                    .email("user" + i + "@example.com")
+                    .firstName("Văn")
+                    .lastName("Nguyễn")
+                    .gender(Gender.MALE)
+                    .dateOfBirth(LocalDate.of(1995, 5, 20))
+                    .phone("+84 912 345 678")
+                    .address("Hà Nội, Việt Nam")
+                    .roles(roleTypes)
+                    .createdAt(createdAt)
+                    .updatedAt(createdAt)
+                    .build());
+        }
+
+        legacyResponse = ApiResponse.success(legacyUsers, "Lấy danh sách người dùng thành công");
+        leanResponse = ApiResponse.success(leanUsers, "Lấy danh sách người dùng thành công");
+    }
+
+    @Benchmark
+    public byte[] roleEntities(PayloadSize size) throws Exception {
+        byte[] body = objectMapper.writeValueAsBytes(legacyResponse);
+        size.bytes = body.length;
+        return body;
+    }
+
+    @Benchmark
+    public byte[] roleCodes(PayloadSize size) throws Exception {
+        byte[] body = objectMapper.writeValueAsBytes(leanResponse);
+        size.bytes = body.length;
+        return body;
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PayloadSize {
+        public long bytes;
+    }
+
+    public record LegacyUserResponseDto(String id, String username, String email, String firstName,
+            String lastName, Gender gender, LocalDate dateOfBirth, String phone, String address, Set<Role> roles,
+            LocalDateTime createdAt, LocalDateTime updatedAt) {
+    }
+}
@@ -0,0 +1,173 @@
+package com.vtlong.my_spring_boot_project.service;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.nimbusds.jwt.SignedJWT;
+import com.vtlong.my_spring_boot_project.config.CustomJwtDecoder;
+import com.vtlong.my_spring_boot_project.config.JwtConfig;
+import com.vtlong.my_spring_boot_project.config.JwtKeyProvider;
+import com.vtlong.my_spring_boot_project.dto.response.UserResponseDto;
+import com.vtlong.my_spring_boot_project.mapper.UserMapper;
+import com.vtlong.my_spring_boot_project.mapper.UserMapperImpl;
+import com.vtlong.my_spring_boot_project.model.Gender;
+import com.vtlong.my_spring_boot_project.model.Role;
+import com.vtlong.my_spring_boot_project.model.RoleType;
+import com.vtlong.my_spring_boot_project.model.User;
+import com.vtlong.my_spring_boot_project.monitoring.AuthMetrics;
+import com.vtlong.my_spring_boot_project.repository.InvalidatedTokenRepository;
+import com.vtlong.my_spring_boot_project.repository.RefreshTokenRepository;
+import com.vtlong.my_spring_boot_project.repository.UserRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SecurityHotPathBenchmark {
+
+    private static final int MAPPED_USERS = 100;
+
+    private AuthService authService;
+    private IntrospectionService introspectionService;
+    private CustomJwtDecoder customJwtDecoder;
+    private UserMapper userMapper;
+    private User user;
+    private String token;
+    private String tokenId;
+    private List<User> users;
+
+    @Setup
+    public void setUp() throws Exception {
+        JwtConfig jwtConfig = new JwtConfig();
+        jwtConfig.setSignerKey("benchmark-signer-key-0123456789abcdef0123456789abcdef0123456789abcdef0123456789");
+        jwtConfig.setSigningAlgorithm("HS512");
+        jwtConfig.setIntrospectionCacheTtlSeconds(300);
+        jwtConfig.setIntrospectionCacheMaxSize(10_000);
+        jwtConfig.setAccessTokenExpirationMinutes(15);
+        jwtConfig.setRefreshTokenExpirationDays(7);
+
+        UserRepository userRepository = stub(UserRepository.class, (method, args) -> switch (method.getName()) {
+            case "findTokenGenerationById" -> Optional.of(0L);
+            default -> throw new UnsupportedOperationException(method.getName());
+        });
+        InvalidatedTokenRepository invalidatedTokenRepository = stub(InvalidatedTokenRepository.class,
+                (method, args) -> switch (method.getName()) {
+                    case "findExistingIds" -> List.of();
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+        RefreshTokenRepository refreshTokenRepository = stub(RefreshTokenRepository.class, (method, args) -> {
+            throw new UnsupportedOperationException(method.getName());
+        });
+        PlatformTransactionManager transactionManager = stub(PlatformTransactionManager.class, (method, args) -> {
+            throw new UnsupportedOperationException(method.getName());
+        });
+
+        AuthMetrics authMetrics = new AuthMetrics(new SimpleMeterRegistry());
+        JwtKeyProvider jwtKeyProvider = new JwtKeyProvider(jwtConfig);
+        TokenGenerationService tokenGenerationService = new TokenGenerationService(userRepository, jwtConfig);
+        introspectionService = new IntrospectionService(jwtKeyProvider, jwtConfig, invalidatedTokenRepository,
+                tokenGenerationService);
+        authService = new AuthService(userRepository, new BCryptPasswordEncoder(4), jwtConfig, jwtKeyProvider,
+                invalidatedTokenRepository, tokenGenerationService,
+                new RefreshTokenService(refreshTokenRepository, jwtConfig), introspectionService, authMetrics,
+                new KnownEmailFilter(userRepository, transactionManager, 0.01, 10_000, Duration.ofMinutes(1)));
+        customJwtDecoder = new CustomJwtDecoder(jwtKeyProvider, tokenGenerationService, authMetrics);
+        userMapper = new UserMapperImpl();
+
+        users = new ArrayList<>(MAPPED_USERS);
+        for (int i = 0; i < MAPPED_USERS; i++) {
+            users.add(user(i));
+        }
+        user = users.get(0);
+        token = authService.generateToken(user);
+        tokenId = SignedJWT.parse(token).getJWTClaimsSet().getJWTID();
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return authService.generateToken(user);
+    }
+
+    @Benchmark
+    public boolean verifyTokenCached() {
+        return authService.verifyToken(token);
+    }
+
+    @Benchmark
+    public boolean verifyTokenUncached() {
+        introspectionService.evict(tokenId);
+        return authService.verifyToken(token);
+    }
+
+    @Benchmark
+    public Jwt decodeBearerToken() {
+        return customJwtDecoder.decode(token);
+    }
+
+    @Benchmark
+    public List<UserResponseDto> mapUserList() {
+        return userMapper.toResponseDtoList(users);
+    }
+
+    private static User user(int i) {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 8, 0).plusMinutes(i);
+        return User.builder()
+                .id(UUID.nameUUIDFromBytes(("user-" + i).getBytes()).toString())
+                .username("user" + i)
+                .email("user" + i + "@example.com")
+                .firstName("Văn")
+                .lastName("Nguyễn")
+                .gender(Gender.MALE)
+                .dateOfBirth(LocalDate.of(1995, 5, 20))
+                .phone("+84 912 345 678")
+                .address("Hà Nội, Việt Nam")
+                .roles(Set.of(
+                        Role.builder().id(1L).name(RoleType.ADMIN).build(),
+                        Role.builder().id(3L).name(RoleType.USER).build()))
+                .createdAt(createdAt)
+                .updatedAt(createdAt)
+                .build();
+    }
+
+    @FunctionalInterface
+    private interface Answer {
+        Object answer(Method method, Object[] args) throws Throwable;
+    }
+
+    private static <T> T stub(Class<T> type, Answer answer) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type },
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> type.getSimpleName() + "Stub";
+                    default -> answer.answer(method, args);
+                }));
+    }
+}
@@ -0,0 +1,182 @@
+package com.vtlong.my_spring_boot_project.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+final class LoadGenerator {
+
+    static final String LOGIN = "POST /auth/login";
+    static final String CURRENT_USER = "GET /users/me";
+    static final String REFRESH = "POST /auth/refresh";
+    static final String LOGOUT = "POST /auth/logout";
+    static final String ADMIN_LISTING = "GET /admin/users";
+    static final List<String> OPERATIONS = List.of(LOGIN, CURRENT_USER, REFRESH, LOGOUT, ADMIN_LISTING);
+
+    static final String ADMIN_EMAIL = "admin@example.com";
+    private static final String ADMIN_PASSWORD = "12345678";
+    private static final int CURRENT_USER_CALLS_PER_SESSION = 3;
+
+    private final URI baseUri;
+    private final LoadTestSettings settings;
+    private final List<String> emails;
+    private final String password;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    LoadGenerator(URI baseUri, LoadTestSettings settings, List<String> emails, String password) {
+        this.baseUri = baseUri;
+        this.settings = settings;
+        this.emails = emails;
+        this.password = password;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    LoadTestResult run(boolean virtualThreads) throws Exception {
+        long measureFrom = System.nanoTime() + settings.warmup().toNanos();
+        long stopAt = measureFrom + settings.duration().toNanos();
+
+        List<Worker> workers = new ArrayList<>(settings.concurrency());
+        List<Future<?>> futures = new ArrayList<>(settings.concurrency());
+        ExecutorService executor = Executors.newFixedThreadPool(settings.concurrency());
+        try {
+            for (int i = 0; i < settings.concurrency(); i++) {
+                Worker worker = new Worker(measureFrom, stopAt);
+                workers.add(worker);
+                futures.add(executor.submit(() -> {
+                    worker.run();
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Map<String, LatencyRecorder> operations = new LinkedHashMap<>();
+        OPERATIONS.forEach(operation -> operations.put(operation, new LatencyRecorder()));
+        workers.forEach(worker -> worker.recorders.forEach((operation, recorder) -> operations.get(operation)
+                .merge(recorder)));
+        return new LoadTestResult(virtualThreads, operations, settings.duration());
+    }
+
+    private final class Worker {
+
+        private final long measureFrom;
+        private final long stopAt;
+        private final Map<String, LatencyRecorder> recorders = new LinkedHashMap<>();
+        private String adminToken;
+
+        private Worker(long measureFrom, long stopAt) {
+            this.measureFrom = measureFrom;
+            this.stopAt = stopAt;
+            OPERATIONS.forEach(operation -> recorders.put(operation, new LatencyRecorder()));
+        }
+
+        private void run() throws InterruptedException {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            while (System.nanoTime() < stopAt) {
+                if (emails.isEmpty() || random.nextDouble() < settings.adminRatio()) {
+                    adminListing();
+                } else {
+                    userSession(emails.get(random.nextInt(emails.size())));
+                }
+            }
+        }
+
+        private void userSession(String email) throws InterruptedException {
+            JsonNode login = call(LOGIN, post("/auth/login", Map.of("email", email, "password", password)));
+            if (login == null) {
+                return;
+            }
+
+            String token = login.path("token").asText();
+            String refreshToken = login.path("refreshToken").asText();
+            for (int i = 0; i < CURRENT_USER_CALLS_PER_SESSION; i++) {
+                call(CURRENT_USER, get("/users/me", token));
+            }
+
+            JsonNode refreshed = call(REFRESH, post("/auth/refresh", Map.of("refreshToken", refreshToken)));
+            if (refreshed != null) {
+                token = refreshed.path("token").asText();
+                refreshToken = refreshed.path("refreshToken").asText();
+                call(CURRENT_USER, get("/users/me", token));
+            }
+
+            call(LOGOUT, post("/auth/logout", Map.of("token", token, "refreshToken", refreshToken)));
+        }
+
+        private void adminListing() throws InterruptedException {
+            if (adminToken == null) {
+                JsonNode login = call(LOGIN, post("/auth/login", Map.of("email", ADMIN_EMAIL, "password",
+                        ADMIN_PASSWORD)));
+                if (login == null) {
+                    return;
+                }
+                adminToken = login.path("token").asText();
+            }
+
+            if (call(ADMIN_LISTING, get("/admin/users", adminToken)) == null) {
+                adminToken = null;
+            }
+        }
+
+        private JsonNode call(String operation, HttpRequest request) throws InterruptedException {
+            long started = System.nanoTime();
+            try {
+                HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+                boolean success = response.statusCode() / 100 == 2;
+                record(operation, started, success);
+                return success ? objectMapper.readTree(response.body()).path("data") : null;
+            } catch (IOException e) {
+                record(operation, started, false);
+                return null;
+            }
+        }
+
+        private void record(String operation, long started, boolean success) {
+            if (started >= measureFrom && started < stopAt) {
+                recorders.get(operation).record(System.nanoTime() - started, success);
+            }
+        }
+    }
+
+    private HttpRequest post(String path, Map<String, String> body) {
+        try {
+            return HttpRequest.newBuilder(baseUri.resolve(path))
+                    .header("Content-Type", "application/json")
+                    .header("Accept", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                    .build();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private HttpRequest get(String path, String token) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .header("Accept", "application/json")
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build();
+    }
+}
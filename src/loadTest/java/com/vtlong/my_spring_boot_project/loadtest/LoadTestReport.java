@@ -0,0 +1,103 @@
+package com.vtlong.my_spring_boot_project.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+final class LoadTestReport {
+
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final LoadTestSettings settings;
+    private final List<LoadTestResult> results;
+    private final LocalDateTime finishedAt = LocalDateTime.now();
+
+    LoadTestReport(LoadTestSettings settings, List<LoadTestResult> results) {
+        this.settings = settings;
+        this.results = results;
+    }
+
+    Path write() throws IOException {
+        Files.createDirectories(settings.reportDir());
+        Path report = settings.reportDir().resolve("load-test-" + FILE_TIMESTAMP.format(finishedAt) + ".md");
+        Files.writeString(report, render());
+        return report;
+    }
+
+    String render() {
+        StringBuilder out = new StringBuilder();
+        out.append("# Load test report\n\n");
+        out.append("| Setting | Value |\n|---|---|\n");
+        row(out, "Finished at", finishedAt);
+        row(out, "Java", Runtime.version());
+        row(out, "Thread models", results.stream().map(LoadTestResult::threadModel)
+                .collect(Collectors.joining(", ")));
+        row(out, "Seeded users", settings.users());
+        row(out, "Concurrency", settings.concurrency());
+        row(out, "Warmup", settings.warmup());
+        row(out, "Measured", settings.duration());
+        row(out, "Admin ratio", settings.adminRatio());
+        row(out, "Latency samples", "successful requests only; failures are counted under Errors");
+
+        if (results.size() > 1) {
+            out.append("\n## Comparison\n\n");
+            out.append("| Threads | Requests | Errors | Successful (req/s) | p50 (ms) | p99 (ms) | Max (ms) |\n");
+            out.append("|---|---:|---:|---:|---:|---:|---:|\n");
+            for (LoadTestResult result : results) {
+                LatencyRecorder total = result.total();
+                long[] sorted = total.sorted();
+                out.append(String.format(Locale.ROOT, "| %s | %d | %d | %.1f | %s | %s | %s |%n",
+                        result.threadModel(), total.requests(), total.errors(), throughput(result, total),
+                        millis(percentile(sorted, 0.50)), millis(percentile(sorted, 0.99)), millis(max(sorted))));
+            }
+        }
+
+        for (LoadTestResult result : results) {
+            out.append("\n## ").append(result.threadModel()).append("\n\n");
+            out.append("| Operation | Requests | Errors | Successful (req/s) | p50 (ms) | p90 (ms) | p99 (ms) "
+                    + "| p99.9 (ms) | Max (ms) |\n");
+            out.append("|---|---:|---:|---:|---:|---:|---:|---:|---:|\n");
+            result.operations().forEach((operation, recorder) -> operationRow(out, result, operation, recorder));
+            operationRow(out, result, "**Total**", result.total());
+        }
+        return out.toString();
+    }
+
+    private static void operationRow(StringBuilder out, LoadTestResult result, String operation,
+            LatencyRecorder recorder) {
+        long[] sorted = recorder.sorted();
+        out.append(String.format(Locale.ROOT, "| %s | %d | %d | %.1f | %s | %s | %s | %s | %s |%n",
+                operation, recorder.requests(), recorder.errors(), throughput(result, recorder),
+                millis(percentile(sorted, 0.50)), millis(percentile(sorted, 0.90)),
+                millis(percentile(sorted, 0.99)), millis(percentile(sorted, 0.999)), millis(max(sorted))));
+    }
+
+    private static double throughput(LoadTestResult result, LatencyRecorder recorder) {
+        return recorder.successes() / (result.measured().toNanos() / 1e9);
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return -1;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    private static long max(long[] sorted) {
+        return sorted.length == 0 ? -1 : sorted[sorted.length - 1];
+    }
+
+    private static String millis(long nanos) {
+        return nanos < 0 ? "-" : String.format(Locale.ROOT, "%.2f", nanos / 1e6);
+    }
+
+    private static void row(StringBuilder out, String setting, Object value) {
+        out.append("| ").append(setting).append(" | ").append(value).append(" |\n");
+    }
+}
@@ -0,0 +1,17 @@
+package com.vtlong.my_spring_boot_project.loadtest;
+
+import java.time.Duration;
+import java.util.Map;
+
+record LoadTestResult(boolean virtualThreads, Map<String, LatencyRecorder> operations, Duration measured) {
+
+    String threadModel() {
+        return virtualThreads ? "Virtual threads" : "Platform threads";
+    }
+
+    LatencyRecorder total() {
+        LatencyRecorder total = new LatencyRecorder();
+        operations.values().forEach(total::merge);
+        return total;
+    }
+}
@@ -0,0 +1,55 @@
+package com.vtlong.my_spring_boot_project.loadtest;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.vtlong.my_spring_boot_project.MySpringBootProjectApplication;
+import com.vtlong.my_spring_boot_project.config.SeedConfig;
+
+public final class LoadTestRunner {
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        if (settings.threadModels().contains(true) && Runtime.version().feature() < 21) {
+            System.err.println("Virtual threads need Java 21 (-PjavaVersion=21); the virtual-thread run will use "
+                    + "platform threads");
+        }
+
+        List<LoadTestResult> results = new ArrayList<>();
+        for (boolean virtualThreads : settings.threadModels()) {
+            results.add(run(settings, virtualThreads, args));
+        }
+
+        LoadTestReport report = new LoadTestReport(settings, results);
+        Path reportFile = report.write();
+        System.out.println(report.render());
+        System.out.println("Report written to " + reportFile);
+    }
+
+    private static LoadTestResult run(LoadTestSettings settings, boolean virtualThreads, String[] args)
+            throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(MySpringBootProjectApplication.class)
+                .profiles("loadtest", "seed")
+                .properties("spring.threads.virtual.enabled=" + virtualThreads,
+                        "seed.users=" + settings.users())
+                .run(args)) {
+            List<String> emails = context.getBean(JdbcTemplate.class)
+                    .queryForList("SELECT email FROM users WHERE email <> ?", String.class, LoadGenerator.ADMIN_EMAIL);
+            String password = context.getBean(SeedConfig.class).getPassword();
+
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            return new LoadGenerator(URI.create("http://localhost:" + port), settings, emails, password)
+                    .run(virtualThreads);
+        }
+    }
+}
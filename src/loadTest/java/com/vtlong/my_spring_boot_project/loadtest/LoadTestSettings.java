@@ -0,0 +1,25 @@
+package com.vtlong.my_spring_boot_project.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+record LoadTestSettings(int users, int concurrency, Duration warmup, Duration duration, double adminRatio,
+        boolean virtualThreads, boolean compareVirtualThreads, Path reportDir) {
+
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                Integer.getInteger("loadtest.users", 10_000),
+                Integer.getInteger("loadtest.concurrency", 32),
+                Duration.ofSeconds(Integer.getInteger("loadtest.warmup-seconds", 15)),
+                Duration.ofSeconds(Integer.getInteger("loadtest.duration-seconds", 60)),
+                Double.parseDouble(System.getProperty("loadtest.admin-ratio", "0.02")),
+                Boolean.getBoolean("loadtest.virtual-threads"),
+                Boolean.getBoolean("loadtest.compare-virtual-threads"),
+                Path.of(System.getProperty("loadtest.report-dir", "build/reports/load-test")));
+    }
+
+    List<Boolean> threadModels() {
+        return compareVirtualThreads ? List.of(false, true) : List.of(virtualThreads);
+    }
+}
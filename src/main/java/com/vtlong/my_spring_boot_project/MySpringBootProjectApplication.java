@@ -2,12 +2,36 @@ package com.vtlong.my_spring_boot_project;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.event.ApplicationEnvironmentPreparedEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.Profiles;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import com.vtlong.my_spring_boot_project.config.NativeRuntimeHints;
 
 @SpringBootApplication
+@EnableScheduling
+@ImportRuntimeHints(NativeRuntimeHints.class)
 public class MySpringBootProjectApplication {
 
+	private static final int STARTUP_STEP_BUFFER = 4096;
+
 	public static void main(String[] args) {
-		SpringApplication.run(MySpringBootProjectApplication.class, args);
+		SpringApplication application = new SpringApplication(MySpringBootProjectApplication.class);
+		application.addListeners((ApplicationListener<ApplicationEnvironmentPreparedEvent>) event -> {
+			if (startupReportingEnabled(event.getEnvironment())) {
+				event.getSpringApplication().setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEP_BUFFER));
+			}
+		});
+		application.run(args);
+	}
+
+	private static boolean startupReportingEnabled(ConfigurableEnvironment environment) {
+		return environment.getProperty("startup.report.top-beans", Integer.class, 0) > 0
+				|| environment.acceptsProfiles(Profiles.of("faststart"));
 	}
 
 }
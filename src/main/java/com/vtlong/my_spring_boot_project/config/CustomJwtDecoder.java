@@ -1,52 +1,43 @@
 package com.vtlong.my_spring_boot_project.config;
 
-import java.util.Objects;
-import javax.crypto.spec.SecretKeySpec;
-
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.JwtException;
-import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
 import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 import org.springframework.stereotype.Component;
 
-import com.nimbusds.jwt.JWTClaimsSet;
-import com.nimbusds.jwt.SignedJWT;
-import com.vtlong.my_spring_boot_project.repository.InvalidatedTokenRepository;
+import com.vtlong.my_spring_boot_project.monitoring.AuthMetrics;
+import com.vtlong.my_spring_boot_project.service.TokenGenerationService;
 
 @Component
 public class CustomJwtDecoder implements JwtDecoder {
 
-    private final JwtConfig jwtConfig;
-    private final InvalidatedTokenRepository invalidatedTokenRepository;
-    private NimbusJwtDecoder nimbusJwtDecoder = null;
+    private final TokenGenerationService tokenGenerationService;
+    private final NimbusJwtDecoder nimbusJwtDecoder;
+    private final AuthMetrics authMetrics;
 
-    public CustomJwtDecoder(JwtConfig jwtConfig, InvalidatedTokenRepository invalidatedTokenRepository) {
-        this.jwtConfig = jwtConfig;
-        this.invalidatedTokenRepository = invalidatedTokenRepository;
+    public CustomJwtDecoder(JwtKeyProvider jwtKeyProvider, TokenGenerationService tokenGenerationService,
+            AuthMetrics authMetrics) {
+        this.tokenGenerationService = tokenGenerationService;
+        this.nimbusJwtDecoder = jwtKeyProvider.getNimbusJwtDecoder();
+        this.authMetrics = authMetrics;
     }
 
     @Override
     public Jwt decode(String token) throws JwtException {
-        try {
-            SignedJWT signedJWT = SignedJWT.parse(token);
-            JWTClaimsSet claimsSet = signedJWT.getJWTClaimsSet();
-            String jti = claimsSet.getJWTID();
-
-            if (invalidatedTokenRepository.existsById(jti)) {
-                throw new JwtException("Token has been logged out");
-            }
-        } catch (Exception e) {
-            throw new JwtException("Invalid token format: " + e.getMessage());
-        }
+        Jwt jwt = authMetrics.getJwtVerify().record(() -> nimbusJwtDecoder.decode(token));
 
-        if (Objects.isNull(nimbusJwtDecoder)) {
-            SecretKeySpec secretKeySpec = new SecretKeySpec(jwtConfig.getSignerKey().getBytes(), "HS512");
-            nimbusJwtDecoder = NimbusJwtDecoder.withSecretKey(secretKeySpec)
-                    .macAlgorithm(MacAlgorithm.HS512)
-                    .build();
+        boolean current = authMetrics.getJwtRevocation()
+                .record(() -> tokenGenerationService.isCurrent(jwt.getClaimAsString("userId"), generationOf(jwt)));
+        if (!current) {
+            throw new JwtException("Token has been revoked");
         }
 
-        return nimbusJwtDecoder.decode(token);
+        return jwt;
+    }
+
+    private long generationOf(Jwt jwt) {
+        Object generation = jwt.getClaim("gen");
+        return generation instanceof Number number ? number.longValue() : 0L;
     }
-}
\ No newline at end of file
+}
@@ -1,6 +1,11 @@
 package com.vtlong.my_spring_boot_project.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
@@ -10,50 +15,85 @@ import com.vtlong.my_spring_boot_project.model.User;
 import com.vtlong.my_spring_boot_project.model.Gender;
 import com.vtlong.my_spring_boot_project.repository.RoleRepository;
 import com.vtlong.my_spring_boot_project.repository.UserRepository;
+import com.vtlong.my_spring_boot_project.service.KnownEmailFilter;
+
+import lombok.extern.slf4j.Slf4j;
 
 import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 
+@Slf4j
 @Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
 public class DataInitializer implements CommandLineRunner {
 
     private final RoleRepository roleRepository;
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final KnownEmailFilter knownEmailFilter;
+    private final boolean deferred;
 
     public DataInitializer(RoleRepository roleRepository, UserRepository userRepository,
-            PasswordEncoder passwordEncoder) {
+            PasswordEncoder passwordEncoder, KnownEmailFilter knownEmailFilter,
+            @Value("${data-initializer.deferred:false}") boolean deferred) {
         this.roleRepository = roleRepository;
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.knownEmailFilter = knownEmailFilter;
+        this.deferred = deferred;
     }
 
     @Override
     public void run(String... args) throws Exception {
-        initializeRoles();
-        initializeAdminUser();
+        if (!deferred) {
+            initialize();
+        }
     }
 
-    private void initializeRoles() {
-        for (RoleType roleType : RoleType.values()) {
-            if (!roleRepository.existsByName(roleType)) {
-                Role role = Role.builder()
-                        .name(roleType)
-                        .build();
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializeAfterStartup() {
+        if (deferred) {
+            CompletableFuture.runAsync(this::initialize)
+                    .exceptionally(ex -> {
+                        log.error("Deferred data initialization failed", ex);
+                        return null;
+                    });
+        }
+    }
 
-                roleRepository.save(role);
-            }
+    private void initialize() {
+        Set<Role> allRoles = initializeRoles();
+        initializeAdminUser(allRoles);
+    }
+
+    private Set<Role> initializeRoles() {
+        Set<Role> roles = new HashSet<>(roleRepository.findAll());
+        Set<RoleType> existing = roles.stream()
+                .map(Role::getName)
+                .collect(Collectors.toCollection(() -> EnumSet.noneOf(RoleType.class)));
+
+        List<Role> missing = Arrays.stream(RoleType.values())
+                .filter(roleType -> !existing.contains(roleType))
+                .map(roleType -> Role.builder().name(roleType).build())
+                .toList();
+
+        if (!missing.isEmpty()) {
+            roles.addAll(roleRepository.saveAll(missing));
         }
+        return roles;
     }
 
-    private void initializeAdminUser() {
+    private void initializeAdminUser(Set<Role> allRoles) {
         if (userRepository.existsByEmail("admin@example.com")) {
             return;
         }
 
-        Set<Role> allRoles = roleRepository.findAll().stream()
-                .collect(java.util.stream.Collectors.toSet());
-
         if (allRoles.isEmpty()) {
             return;
         }
@@ -72,5 +112,6 @@ public class DataInitializer implements CommandLineRunner {
                 .build();
 
         userRepository.save(adminUser);
+        knownEmailFilter.add(adminUser.getEmail());
     }
-}
\ No newline at end of file
+}
@@ -10,5 +10,14 @@ import lombok.Data;
 @ConfigurationProperties(prefix = "jwt")
 public class JwtConfig {
     private String signerKey;
-    private int expirationHours;
+    private String signingAlgorithm;
+    private String keySet;
+    private boolean allowEphemeralKey;
+    private long jwksCacheSeconds;
+    private long introspectionCacheTtlSeconds;
+    private long introspectionCacheMaxSize;
+    private long generationCacheTtlSeconds = 30;
+    private long generationCacheMaxSize = 100_000;
+    private int accessTokenExpirationMinutes;
+    private int refreshTokenExpirationDays;
 }
@@ -0,0 +1,152 @@
+package com.vtlong.my_spring_boot_project.config;
+
+import java.nio.charset.StandardCharsets;
+import java.text.ParseException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSSigner;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.crypto.ECDSASigner;
+import com.nimbusds.jose.crypto.ECDSAVerifier;
+import com.nimbusds.jose.crypto.MACSigner;
+import com.nimbusds.jose.crypto.MACVerifier;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.KeyUse;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.SignedJWT;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class JwtKeyProvider {
+
+    private final JWSAlgorithm algorithm;
+    private final JWSHeader header;
+    private final JWSSigner signer;
+    private final JWSVerifier macVerifier;
+    private final Map<String, JWSVerifier> verifiersByKeyId = new HashMap<>();
+    private final JWKSet publicJwkSet;
+    private final NimbusJwtDecoder nimbusJwtDecoder;
+
+    public JwtKeyProvider(JwtConfig jwtConfig) throws JOSEException, ParseException {
+        this.algorithm = JWSAlgorithm.parse(jwtConfig.getSigningAlgorithm());
+
+        if (JWSAlgorithm.Family.HMAC_SHA.contains(algorithm)) {
+            byte[] secret = jwtConfig.getSignerKey().getBytes(StandardCharsets.UTF_8);
+            this.header = new JWSHeader(algorithm);
+            this.signer = new MACSigner(secret);
+            this.macVerifier = new MACVerifier(secret);
+            this.publicJwkSet = new JWKSet();
+            this.nimbusJwtDecoder = NimbusJwtDecoder.withSecretKey(new SecretKeySpec(secret, algorithm.getName()))
+                    .macAlgorithm(MacAlgorithm.from(algorithm.getName()))
+                    .build();
+            return;
+        }
+
+        if (!JWSAlgorithm.Family.EC.contains(algorithm)) {
+            throw new IllegalStateException("Unsupported JWT signing algorithm: " + algorithm);
+        }
+
+        List<ECKey> keys = loadEcKeys(jwtConfig.getKeySet(), jwtConfig.isAllowEphemeralKey());
+        ECKey activeKey = keys.get(0);
+        if (!activeKey.isPrivate()) {
+            throw new IllegalStateException("The first key in jwt.key-set must be a private signing key");
+        }
+
+        for (ECKey key : keys) {
+            verifiersByKeyId.put(key.getKeyID(), new ECDSAVerifier(key.toPublicJWK()));
+        }
+
+        this.header = new JWSHeader.Builder(algorithm).keyID(activeKey.getKeyID()).build();
+        this.signer = new ECDSASigner(activeKey);
+        this.macVerifier = null;
+        this.publicJwkSet = new JWKSet(keys.stream().map(JWK::toPublicJWK).toList());
+
+        DefaultJWTProcessor<SecurityContext> jwtProcessor = new DefaultJWTProcessor<>();
+        jwtProcessor.setJWSKeySelector(new JWSVerificationKeySelector<>(algorithm,
+                new ImmutableJWKSet<>(publicJwkSet)));
+        jwtProcessor.setJWTClaimsSetVerifier((claims, context) -> {
+        });
+        this.nimbusJwtDecoder = new NimbusJwtDecoder(jwtProcessor);
+    }
+
+    public JWSHeader getHeader() {
+        return header;
+    }
+
+    public JWSSigner getSigner() {
+        return signer;
+    }
+
+    public NimbusJwtDecoder getNimbusJwtDecoder() {
+        return nimbusJwtDecoder;
+    }
+
+    public Map<String, Object> getPublicJwks() {
+        return publicJwkSet.toJSONObject();
+    }
+
+    public boolean verify(SignedJWT signedJWT) throws JOSEException {
+        if (!algorithm.equals(signedJWT.getHeader().getAlgorithm())) {
+            return false;
+        }
+
+        JWSVerifier verifier = macVerifier != null
+                ? macVerifier
+                : verifiersByKeyId.get(signedJWT.getHeader().getKeyID());
+
+        return verifier != null && signedJWT.verify(verifier);
+    }
+
+    private List<ECKey> loadEcKeys(String keySet, boolean allowEphemeralKey) throws JOSEException, ParseException {
+        if (!StringUtils.hasText(keySet)) {
+            if (!allowEphemeralKey) {
+                throw new IllegalStateException("jwt.key-set is required when jwt.signing-algorithm is " + algorithm
+                        + "; set jwt.allow-ephemeral-key=true only for local development");
+            }
+            log.warn("jwt.key-set is empty; signing with an ephemeral {} key. Tokens will not survive a restart "
+                    + "and other instances will reject them", algorithm);
+            Curve curve = Curve.forJWSAlgorithm(algorithm).iterator().next();
+            return List.of(new ECKeyGenerator(curve)
+                    .keyUse(KeyUse.SIGNATURE)
+                    .keyID(UUID.randomUUID().toString())
+                    .generate());
+        }
+
+        List<ECKey> keys = JWKSet.parse(keySet).getKeys().stream()
+                .map(key -> {
+                    if (!(key instanceof ECKey ecKey) || key.getKeyID() == null) {
+                        throw new IllegalStateException("jwt.key-set must only contain EC keys with a kid");
+                    }
+                    return ecKey;
+                })
+                .toList();
+
+        if (keys.isEmpty()) {
+            throw new IllegalStateException("jwt.key-set does not contain any keys");
+        }
+
+        return keys;
+    }
+}
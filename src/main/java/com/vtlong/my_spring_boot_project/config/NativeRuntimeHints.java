@@ -0,0 +1,44 @@
+package com.vtlong.my_spring_boot_project.config;
+
+import java.util.List;
+
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+
+import com.vtlong.my_spring_boot_project.mapper.UserMapperImpl;
+import com.vtlong.my_spring_boot_project.model.InvalidatedToken;
+import com.vtlong.my_spring_boot_project.model.RefreshToken;
+import com.vtlong.my_spring_boot_project.model.Role;
+import com.vtlong.my_spring_boot_project.model.User;
+import com.vtlong.my_spring_boot_project.repository.projection.UserView;
+
+public class NativeRuntimeHints implements RuntimeHintsRegistrar {
+
+    private static final List<Class<?>> ENTITIES = List.of(User.class, Role.class, InvalidatedToken.class,
+            RefreshToken.class);
+
+    private static final List<String> CAFFEINE_GENERATED = List.of(
+            "com.github.benmanes.caffeine.cache.SSMSA",
+            "com.github.benmanes.caffeine.cache.SSMSW",
+            "com.github.benmanes.caffeine.cache.PSAMS",
+            "com.github.benmanes.caffeine.cache.PSWMS");
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        ENTITIES.forEach(entity -> hints.reflection().registerType(entity,
+                MemberCategory.DECLARED_FIELDS,
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                MemberCategory.INVOKE_DECLARED_METHODS));
+
+        hints.reflection().registerType(UserView.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS,
+                MemberCategory.INVOKE_PUBLIC_METHODS);
+        hints.reflection().registerType(UserMapperImpl.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+
+        CAFFEINE_GENERATED.forEach(type -> hints.reflection().registerType(TypeReference.of(type),
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS));
+
+        hints.resources().registerPattern("db/migration/*.sql");
+    }
+}
@@ -0,0 +1,59 @@
+package com.vtlong.my_spring_boot_project.config;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.security.core.GrantedAuthority;
+
+import com.vtlong.my_spring_boot_project.model.RoleType;
+
+public enum RoleAuthority implements GrantedAuthority {
+    ADMIN(RoleType.ADMIN),
+    MODERATOR(RoleType.MODERATOR),
+    USER(RoleType.USER),
+    SERVICE(RoleType.SERVICE);
+
+    private static final Map<String, RoleAuthority> BY_CODE = new HashMap<>();
+
+    static {
+        for (RoleAuthority roleAuthority : values()) {
+            BY_CODE.put(roleAuthority.roleType.getCode(), roleAuthority);
+        }
+    }
+
+    private final RoleType roleType;
+    private final String authority;
+    private final int mask;
+
+    RoleAuthority(RoleType roleType) {
+        this.roleType = roleType;
+        this.authority = "ROLE_" + roleType.getCode();
+        this.mask = 1 << ordinal();
+    }
+
+    @Override
+    public String getAuthority() {
+        return authority;
+    }
+
+    public RoleType getRoleType() {
+        return roleType;
+    }
+
+    public int getMask() {
+        return mask;
+    }
+
+    public static int maskOfCode(Object code) {
+        RoleAuthority roleAuthority = code instanceof String value ? BY_CODE.get(value) : null;
+        return roleAuthority != null ? roleAuthority.mask : 0;
+    }
+
+    public static int maskOf(RoleType... roleTypes) {
+        int mask = 0;
+        for (RoleType roleType : roleTypes) {
+            mask |= maskOfCode(roleType.getCode());
+        }
+        return mask;
+    }
+}
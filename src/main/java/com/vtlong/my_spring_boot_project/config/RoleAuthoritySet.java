@@ -0,0 +1,49 @@
+package com.vtlong.my_spring_boot_project.config;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+
+import org.springframework.security.core.GrantedAuthority;
+
+public final class RoleAuthoritySet extends AbstractList<GrantedAuthority> {
+
+    private static final RoleAuthoritySet[] BY_MASK = new RoleAuthoritySet[1 << RoleAuthority.values().length];
+
+    static {
+        for (int mask = 0; mask < BY_MASK.length; mask++) {
+            BY_MASK[mask] = new RoleAuthoritySet(mask);
+        }
+    }
+
+    private final int mask;
+    private final RoleAuthority[] authorities;
+
+    private RoleAuthoritySet(int mask) {
+        this.mask = mask;
+        this.authorities = Arrays.stream(RoleAuthority.values())
+                .filter(roleAuthority -> (mask & roleAuthority.getMask()) != 0)
+                .toArray(RoleAuthority[]::new);
+    }
+
+    public static RoleAuthoritySet of(int mask) {
+        return BY_MASK[mask];
+    }
+
+    public int getMask() {
+        return mask;
+    }
+
+    public boolean containsAny(int roleMask) {
+        return (mask & roleMask) != 0;
+    }
+
+    @Override
+    public GrantedAuthority get(int index) {
+        return authorities[index];
+    }
+
+    @Override
+    public int size() {
+        return authorities.length;
+    }
+}
@@ -0,0 +1,46 @@
+package com.vtlong.my_spring_boot_project.config;
+
+import java.util.function.Supplier;
+
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+import com.vtlong.my_spring_boot_project.model.RoleType;
+
+public final class RoleAuthorizationManager<T> implements AuthorizationManager<T> {
+
+    private static final AuthorizationDecision GRANTED = new AuthorizationDecision(true);
+    private static final AuthorizationDecision DENIED = new AuthorizationDecision(false);
+
+    private final int roleMask;
+
+    private RoleAuthorizationManager(int roleMask) {
+        this.roleMask = roleMask;
+    }
+
+    public static <T> RoleAuthorizationManager<T> hasAnyRole(RoleType... roleTypes) {
+        return new RoleAuthorizationManager<>(RoleAuthority.maskOf(roleTypes));
+    }
+
+    @Override
+    public AuthorizationDecision check(Supplier<Authentication> authentication, T object) {
+        Authentication current = authentication.get();
+        if (current instanceof RoleJwtAuthenticationToken token) {
+            return token.hasAnyRole(roleMask) ? GRANTED : DENIED;
+        }
+
+        if (current == null || !current.isAuthenticated()) {
+            return DENIED;
+        }
+
+        for (GrantedAuthority grantedAuthority : current.getAuthorities()) {
+            if (grantedAuthority instanceof RoleAuthority roleAuthority && (roleAuthority.getMask() & roleMask) != 0) {
+                return GRANTED;
+            }
+        }
+
+        return DENIED;
+    }
+}
@@ -0,0 +1,31 @@
+package com.vtlong.my_spring_boot_project.config;
+
+import java.util.Collection;
+
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+public class RoleJwtAuthenticationConverter implements Converter<Jwt, AbstractAuthenticationToken> {
+
+    private static final String SCOPE_CLAIM = "scope";
+
+    @Override
+    public AbstractAuthenticationToken convert(Jwt jwt) {
+        return new RoleJwtAuthenticationToken(jwt, RoleAuthoritySet.of(roleMask(jwt.getClaims().get(SCOPE_CLAIM))));
+    }
+
+    private int roleMask(Object scope) {
+        int mask = 0;
+        if (scope instanceof Collection<?> codes) {
+            for (Object code : codes) {
+                mask |= RoleAuthority.maskOfCode(code);
+            }
+        } else if (scope instanceof String codes) {
+            for (String code : codes.split(" ")) {
+                mask |= RoleAuthority.maskOfCode(code);
+            }
+        }
+        return mask;
+    }
+}
@@ -0,0 +1,26 @@
+package com.vtlong.my_spring_boot_project.config;
+
+import java.util.Collection;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+public class RoleJwtAuthenticationToken extends JwtAuthenticationToken {
+
+    private final RoleAuthoritySet roleAuthorities;
+
+    public RoleJwtAuthenticationToken(Jwt jwt, RoleAuthoritySet roleAuthorities) {
+        super(jwt, roleAuthorities, jwt.getSubject());
+        this.roleAuthorities = roleAuthorities;
+    }
+
+    @Override
+    public Collection<GrantedAuthority> getAuthorities() {
+        return roleAuthorities;
+    }
+
+    public boolean hasAnyRole(int roleMask) {
+        return roleAuthorities.containsAny(roleMask);
+    }
+}
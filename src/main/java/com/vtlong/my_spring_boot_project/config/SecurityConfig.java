@@ -1,24 +1,33 @@
 package com.vtlong.my_spring_boot_project.config;
 
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
-import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.security.authorization.AuthorizationManager;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
-import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
-import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
+
+import com.vtlong.my_spring_boot_project.model.RoleType;
 
 @Configuration
-@EnableMethodSecurity(prePostEnabled = true, securedEnabled = true)
 public class SecurityConfig {
 
     private final CustomJwtDecoder customJwtDecoder;
+    private final ApiAccessDeniedHandler apiAccessDeniedHandler;
+    private final int managementPort;
 
-    public SecurityConfig(CustomJwtDecoder customJwtDecoder) {
+    public SecurityConfig(CustomJwtDecoder customJwtDecoder, ApiAccessDeniedHandler apiAccessDeniedHandler,
+            @Value("${management.server.port:-1}") int managementPort) {
         this.customJwtDecoder = customJwtDecoder;
+        this.apiAccessDeniedHandler = apiAccessDeniedHandler;
+        this.managementPort = managementPort;
     }
 
     private final String[] PUBLIC_ENDPOINTS = {
@@ -28,9 +37,25 @@ public class SecurityConfig {
             "/auth/refresh"
     };
 
+    private final String[] PUBLIC_GET_ENDPOINTS = {
+            "/.well-known/jwks.json",
+            "/actuator/health"
+    };
+
+    private final AuthorizationManager<RequestAuthorizationContext> ADMIN_ONLY = RoleAuthorizationManager
+            .hasAnyRole(RoleType.ADMIN);
+
+    private final AuthorizationManager<RequestAuthorizationContext> SERVICE_OR_ADMIN = RoleAuthorizationManager
+            .hasAnyRole(RoleType.SERVICE, RoleType.ADMIN);
+
+    private final AuthorizationManager<RequestAuthorizationContext> ANY_ROLE = RoleAuthorizationManager
+            .hasAnyRole(RoleType.USER, RoleType.ADMIN, RoleType.MODERATOR);
+
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            @Value("${security.password-hashing.max-concurrency:0}") int maxConcurrency,
+            @Value("${security.password-hashing.acquire-timeout:PT2S}") Duration acquireTimeout) {
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(), maxConcurrency, acquireTimeout);
     }
 
     @Bean
@@ -39,22 +64,29 @@ public class SecurityConfig {
         httpSecurity
                 .authorizeHttpRequests(request -> request
                         .requestMatchers(HttpMethod.POST, PUBLIC_ENDPOINTS).permitAll()
+                        .requestMatchers(HttpMethod.POST, "/auth/introspect/batch").access(SERVICE_OR_ADMIN)
+                        .requestMatchers(HttpMethod.GET, PUBLIC_GET_ENDPOINTS).permitAll()
+                        .requestMatchers(prometheusScrapeOnManagementPort()).permitAll()
+                        .requestMatchers("/admin/**", "/actuator/**").access(ADMIN_ONLY)
+                        .requestMatchers("/users/**").access(ANY_ROLE)
                         .anyRequest().authenticated());
+        httpSecurity.exceptionHandling(exceptionHandling -> exceptionHandling
+                .accessDeniedHandler(apiAccessDeniedHandler));
 
         httpSecurity.oauth2ResourceServer(oauth2 -> oauth2.jwt(jwtConfigurer -> jwtConfigurer.decoder(customJwtDecoder)
                 .jwtAuthenticationConverter(jwtAuthenticationConverter())));
         return httpSecurity.build();
     }
 
-    @Bean
-    public JwtAuthenticationConverter jwtAuthenticationConverter() {
-
-        JwtGrantedAuthoritiesConverter jwtGrantedAuthoritiesConverter = new JwtGrantedAuthoritiesConverter();
-        jwtGrantedAuthoritiesConverter.setAuthorityPrefix("ROLE_");
-        JwtAuthenticationConverter jwtAuthenticationConverter = new JwtAuthenticationConverter();
-
-        jwtAuthenticationConverter.setJwtGrantedAuthoritiesConverter(jwtGrantedAuthoritiesConverter);
+    private RequestMatcher prometheusScrapeOnManagementPort() {
+        return request -> managementPort > 0
+                && request.getLocalPort() == managementPort
+                && HttpMethod.GET.matches(request.getMethod())
+                && "/actuator/prometheus".equals(request.getRequestURI());
+    }
 
-        return jwtAuthenticationConverter;
+    @Bean
+    public RoleJwtAuthenticationConverter jwtAuthenticationConverter() {
+        return new RoleJwtAuthenticationConverter();
     }
 }
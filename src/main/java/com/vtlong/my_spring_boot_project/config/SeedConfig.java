@@ -0,0 +1,20 @@
+package com.vtlong.my_spring_boot_project.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import lombok.Data;
+
+@Data
+@Configuration
+@Profile("seed")
+@ConfigurationProperties(prefix = "seed")
+public class SeedConfig {
+    private int users = 100_000;
+    private int revokedTokens = 50_000;
+    private int batchSize = 5_000;
+    private int threads = 4;
+    private String password = "12345678";
+    private String emailDomain = "example.com";
+}
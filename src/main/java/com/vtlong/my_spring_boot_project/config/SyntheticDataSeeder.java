@@ -0,0 +1,183 @@
+package com.vtlong.my_spring_boot_project.config;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.text.Normalizer;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import com.vtlong.my_spring_boot_project.model.Gender;
+import com.vtlong.my_spring_boot_project.model.RoleType;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@Profile("seed")
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class SyntheticDataSeeder implements CommandLineRunner {
+
+    private static final String[] LAST_NAMES = { "Nguyễn", "Trần", "Lê", "Phạm", "Hoàng", "Huỳnh", "Phan", "Vũ",
+            "Võ", "Đặng", "Bùi", "Đỗ", "Hồ", "Ngô", "Dương", "Lý" };
+    private static final String[] MIDDLE_NAMES = { "Văn", "Thị", "Hữu", "Đức", "Minh", "Ngọc", "Thanh", "Quốc",
+            "Thu", "Gia", "Xuân", "Bảo" };
+    private static final String[] GIVEN_NAMES = { "An", "Bình", "Châu", "Dũng", "Giang", "Hà", "Hải", "Hạnh",
+            "Hiếu", "Hoa", "Hùng", "Hương", "Khánh", "Lan", "Linh", "Long", "Mai", "Nam", "Nga", "Phúc", "Phương",
+            "Quân", "Quang", "Sơn", "Tâm", "Thảo", "Thắng", "Trang", "Tuấn", "Việt", "Yến", "Đạt" };
+    private static final String[] STREETS = { "Lê Lợi", "Trần Hưng Đạo", "Nguyễn Huệ", "Hai Bà Trưng",
+            "Lý Thường Kiệt", "Điện Biên Phủ", "Phan Đình Phùng", "Võ Thị Sáu" };
+    private static final String[] CITIES = { "Hà Nội", "TP Hồ Chí Minh", "Đà Nẵng", "Hải Phòng", "Cần Thơ", "Huế",
+            "Nha Trang", "Quy Nhơn" };
+
+    private static final String INSERT_USER = "INSERT INTO users (id, username, email, password, first_name, "
+            + "last_name, gender, date_of_birth, phone, address, token_generation, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0, ?, ?)";
+    private static final String INSERT_USER_ROLE = "INSERT INTO user_roles (user_id, role_id) VALUES (?, ?)";
+    private static final String INSERT_INVALIDATED_TOKEN = "INSERT INTO invalidated_tokens (id, expires_at) "
+            + "VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final SeedConfig seedConfig;
+
+    public SyntheticDataSeeder(JdbcTemplate jdbcTemplate, PasswordEncoder passwordEncoder, SeedConfig seedConfig) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.passwordEncoder = passwordEncoder;
+        this.seedConfig = seedConfig;
+    }
+
+    @Override
+    public void run(String... args) throws Exception {
+        Map<RoleType, Long> roleIds = loadRoleIds();
+        long startedAt = System.nanoTime();
+
+        int existingUsers = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Integer.class);
+        String passwordHash = passwordEncoder.encode(seedConfig.getPassword());
+        int createdUsers = inParallel(existingUsers, seedConfig.getUsers(),
+                (from, to) -> insertUsers(from, to, passwordHash, roleIds));
+
+        int existingTokens = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM invalidated_tokens", Integer.class);
+        int createdTokens = inParallel(existingTokens, seedConfig.getRevokedTokens(), this::insertRevokedTokens);
+
+        log.info("Seeded {} users and {} revoked tokens in {} ms", createdUsers, createdTokens,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+    }
+
+    private Map<RoleType, Long> loadRoleIds() {
+        Map<RoleType, Long> roleIds = new HashMap<>();
+        jdbcTemplate.query("SELECT id, name FROM roles", rs -> {
+            roleIds.put(RoleType.valueOf(rs.getString("name")), rs.getLong("id"));
+        });
+        if (!roleIds.containsKey(RoleType.USER)) {
+            throw new IllegalStateException("Roles must be initialized before seeding users");
+        }
+        return roleIds;
+    }
+
+    @FunctionalInterface
+    private interface ChunkWriter {
+        void write(int from, int to);
+    }
+
+    private int inParallel(int from, int to, ChunkWriter writer) throws Exception {
+        if (from >= to) {
+            return 0;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, seedConfig.getThreads()));
+        try {
+            List<Future<?>> chunks = new ArrayList<>();
+            for (int start = from; start < to; start += seedConfig.getBatchSize()) {
+                int chunkStart = start;
+                int chunkEnd = Math.min(to, start + seedConfig.getBatchSize());
+                chunks.add(executor.submit(() -> writer.write(chunkStart, chunkEnd)));
+            }
+            for (Future<?> chunk : chunks) {
+                chunk.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        return to - from;
+    }
+
+    private void insertUsers(int from, int to, String passwordHash, Map<RoleType, Long> roleIds) {
+        SplittableRandom random = new SplittableRandom(from);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> users = new ArrayList<>(to - from);
+        List<Object[]> userRoles = new ArrayList<>(to - from);
+
+        for (int i = from; i < to; i++) {
+            String id = UUID.randomUUID().toString();
+            String lastName = pick(random, LAST_NAMES);
+            String middleName = pick(random, MIDDLE_NAMES);
+            String givenName = pick(random, GIVEN_NAMES);
+            String handle = ascii(lastName + "_" + middleName + "_" + givenName);
+
+            users.add(new Object[] {
+                    id,
+                    handle + "_" + i,
+                    handle.replace('_', '.') + "." + i + "@" + seedConfig.getEmailDomain(),
+                    passwordHash,
+                    middleName + " " + givenName,
+                    lastName,
+                    random.nextInt(10) < 9 ? (random.nextBoolean() ? Gender.MALE : Gender.FEMALE).name()
+                            : Gender.OTHER.name(),
+                    Date.valueOf(LocalDate.of(1960, 1, 1).plusDays(random.nextInt(365 * 45))),
+                    String.format("+84 9%02d %03d %03d", random.nextInt(100), random.nextInt(1000),
+                            random.nextInt(1000)),
+                    (1 + random.nextInt(300)) + " " + pick(random, STREETS) + ", " + pick(random, CITIES),
+                    now,
+                    now });
+            userRoles.add(new Object[] { id, roleIds.get(RoleType.USER) });
+            if (i % 100 == 0 && roleIds.containsKey(RoleType.MODERATOR)) {
+                userRoles.add(new Object[] { id, roleIds.get(RoleType.MODERATOR) });
+            }
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_USER, users);
+        jdbcTemplate.batchUpdate(INSERT_USER_ROLE, userRoles);
+    }
+
+    private void insertRevokedTokens(int from, int to) {
+        SplittableRandom random = new SplittableRandom(from);
+        long now = System.currentTimeMillis();
+        List<Object[]> tokens = new ArrayList<>(to - from);
+
+        for (int i = from; i < to; i++) {
+            long offsetMinutes = random.nextLong(-7 * 24 * 60, 15);
+            tokens.add(new Object[] { UUID.randomUUID().toString(), new Timestamp(now + offsetMinutes * 60_000) });
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_INVALIDATED_TOKEN, tokens);
+    }
+
+    private static String pick(SplittableRandom random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static String ascii(String value) {
+        String stripped = Normalizer.normalize(value.replace('Đ', 'D').replace('đ', 'd'), Normalizer.Form.NFD)
+                .replaceAll("\\p{M}", "");
+        return stripped.toLowerCase(Locale.ROOT);
+    }
+}
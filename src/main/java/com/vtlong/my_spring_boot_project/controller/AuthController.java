@@ -1,8 +1,11 @@
 package com.vtlong.my_spring_boot_project.controller;
 
 import java.text.ParseException;
+import java.util.List;
 
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -10,6 +13,7 @@ import org.springframework.web.bind.annotation.RestController;
 
 import com.nimbusds.jose.JOSEException;
 import com.vtlong.my_spring_boot_project.dto.ApiResponse;
+import com.vtlong.my_spring_boot_project.dto.request.BatchIntrospectRequest;
 import com.vtlong.my_spring_boot_project.dto.request.LoginRequest;
 import com.vtlong.my_spring_boot_project.dto.request.LogoutRequest;
 import com.vtlong.my_spring_boot_project.dto.request.IntrospectRequest;
@@ -17,6 +21,7 @@ import com.vtlong.my_spring_boot_project.dto.request.RefreshTokenRequest;
 import com.vtlong.my_spring_boot_project.dto.response.LoginResponse;
 import com.vtlong.my_spring_boot_project.dto.response.IntrospectResponse;
 import com.vtlong.my_spring_boot_project.dto.response.RefreshTokenResponse;
+import com.vtlong.my_spring_boot_project.ratelimit.LoginRateLimiter;
 import com.vtlong.my_spring_boot_project.service.AuthService;
 
 import jakarta.servlet.http.HttpServletRequest;
@@ -27,14 +32,17 @@ import jakarta.validation.Valid;
 public class AuthController {
 
     private final AuthService authService;
+    private final LoginRateLimiter loginRateLimiter;
 
-    public AuthController(AuthService authService) {
+    public AuthController(AuthService authService, LoginRateLimiter loginRateLimiter) {
         this.authService = authService;
+        this.loginRateLimiter = loginRateLimiter;
     }
 
     @PostMapping("/login")
     public ResponseEntity<ApiResponse<LoginResponse>> login(@RequestBody LoginRequest loginRequest,
             HttpServletRequest request) {
+        loginRateLimiter.check(request.getRemoteAddr(), loginRequest.getEmail());
         LoginResponse loginResponse = authService.handleLogin(loginRequest);
         return ResponseEntity.ok(ApiResponse.success(loginResponse, "Đăng nhập thành công", request));
     }
@@ -46,17 +54,32 @@ public class AuthController {
         return ResponseEntity.ok(ApiResponse.success("Đăng xuất thành công", request));
     }
 
+    @PostMapping("/logout-all")
+    public ResponseEntity<ApiResponse<Void>> logoutAll(@AuthenticationPrincipal Jwt jwt,
+            HttpServletRequest request) {
+        authService.handleLogoutAll(jwt.getClaimAsString("userId"));
+        return ResponseEntity.ok(ApiResponse.success("Đăng xuất khỏi tất cả thiết bị thành công", request));
+    }
+
     @PostMapping("/introspect")
     public ResponseEntity<ApiResponse<IntrospectResponse>> introspect(@RequestBody IntrospectRequest introspectRequest,
-            HttpServletRequest request) throws JOSEException, ParseException {
+            HttpServletRequest request) {
         IntrospectResponse introspectResponse = authService.handleIntrospect(introspectRequest);
         return ResponseEntity.ok(ApiResponse.success(introspectResponse, "Kiểm tra token thành công", request));
     }
 
+    @PostMapping("/introspect/batch")
+    public ResponseEntity<ApiResponse<List<IntrospectResponse>>> introspectBatch(
+            @Valid @RequestBody BatchIntrospectRequest batchIntrospectRequest,
+            HttpServletRequest request) {
+        List<IntrospectResponse> introspectResponses = authService.handleBatchIntrospect(batchIntrospectRequest);
+        return ResponseEntity.ok(ApiResponse.success(introspectResponses, "Kiểm tra token thành công", request));
+    }
+
     @PostMapping("/refresh")
     public ResponseEntity<ApiResponse<RefreshTokenResponse>> refreshToken(
             @Valid @RequestBody RefreshTokenRequest refreshTokenRequest,
-            HttpServletRequest request) throws JOSEException, ParseException {
+            HttpServletRequest request) {
         RefreshTokenResponse refreshTokenResponse = authService.handleRefreshToken(refreshTokenRequest);
         return ResponseEntity.ok(ApiResponse.success(refreshTokenResponse, "Làm mới token thành công", request));
     }
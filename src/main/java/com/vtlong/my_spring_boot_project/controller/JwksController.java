@@ -0,0 +1,31 @@
+package com.vtlong.my_spring_boot_project.controller;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.vtlong.my_spring_boot_project.config.JwtConfig;
+import com.vtlong.my_spring_boot_project.config.JwtKeyProvider;
+
+@RestController
+public class JwksController {
+
+    private final JwtKeyProvider jwtKeyProvider;
+    private final CacheControl cacheControl;
+
+    public JwksController(JwtKeyProvider jwtKeyProvider, JwtConfig jwtConfig) {
+        this.jwtKeyProvider = jwtKeyProvider;
+        this.cacheControl = CacheControl.maxAge(Duration.ofSeconds(jwtConfig.getJwksCacheSeconds())).cachePublic();
+    }
+
+    @GetMapping("/.well-known/jwks.json")
+    public ResponseEntity<Map<String, Object>> jwks() {
+        return ResponseEntity.ok()
+                .cacheControl(cacheControl)
+                .body(jwtKeyProvider.getPublicJwks());
+    }
+}
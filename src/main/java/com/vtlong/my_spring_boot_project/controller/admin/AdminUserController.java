@@ -4,7 +4,6 @@ import java.util.List;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -25,7 +24,6 @@ import jakarta.servlet.http.HttpServletRequest;
 
 @RestController
 @RequestMapping("/admin/users")
-@PreAuthorize("hasRole('ADMIN')")
 public class AdminUserController {
 
     private final AdminUserService adminUserService;
@@ -35,14 +33,12 @@ public class AdminUserController {
     }
 
     @GetMapping
-    @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<ApiResponse<List<UserResponseDto>>> getAllUsers(HttpServletRequest request) {
         List<UserResponseDto> users = adminUserService.findAll();
         return ResponseEntity.ok(ApiResponse.success(users, "Lấy danh sách người dùng thành công", request));
     }
 
     @GetMapping("/{id}")
-    @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<ApiResponse<UserResponseDto>> getUserById(@PathVariable String id,
             HttpServletRequest request) {
         UserResponseDto user = adminUserService.findById(id);
@@ -50,7 +46,6 @@ public class AdminUserController {
     }
 
     @PostMapping
-    @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<ApiResponse<UserResponseDto>> createUser(
             @Valid @RequestBody CreateUserRequestDto createUserRequestDto,
             HttpServletRequest request) {
@@ -60,7 +55,6 @@ public class AdminUserController {
     }
 
     @PutMapping("/{id}")
-    @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<ApiResponse<UserResponseDto>> updateUser(
             @PathVariable String id,
             @Valid @RequestBody UpdateUserRequestDto updateUserRequestDto,
@@ -69,8 +63,14 @@ public class AdminUserController {
         return ResponseEntity.ok(ApiResponse.success(updatedUser, "Cập nhật người dùng thành công", request));
     }
 
+    @PostMapping("/{id}/revoke-tokens")
+    public ResponseEntity<ApiResponse<String>> revokeUserTokens(@PathVariable String id,
+            HttpServletRequest request) {
+        adminUserService.revokeAllTokens(id);
+        return ResponseEntity.ok(ApiResponse.success("Thu hồi toàn bộ token của người dùng thành công", request));
+    }
+
     @DeleteMapping("/{id}")
-    @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<ApiResponse<String>> deleteUser(@PathVariable String id,
             HttpServletRequest request) {
         adminUserService.delete(id);
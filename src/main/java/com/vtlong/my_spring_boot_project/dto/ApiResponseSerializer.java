@@ -0,0 +1,107 @@
+package com.vtlong.my_spring_boot_project.dto;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+
+import org.springframework.boot.jackson.JsonComponent;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+@JsonComponent
+public class ApiResponseSerializer extends StdSerializer<ApiResponse<?>> {
+
+    private static final SerializedString TIMESTAMP = new SerializedString("timestamp");
+    private static final SerializedString STATUS = new SerializedString("status");
+    private static final SerializedString SUCCESS = new SerializedString("success");
+    private static final SerializedString MESSAGE = new SerializedString("message");
+    private static final SerializedString DATA = new SerializedString("data");
+    private static final SerializedString ERROR = new SerializedString("error");
+    private static final SerializedString PATH = new SerializedString("path");
+
+    private static final int MAX_CACHED_MESSAGES = 512;
+
+    private final Cache<String, SerializedString> cachedMessages = Caffeine.newBuilder()
+            .maximumSize(MAX_CACHED_MESSAGES)
+            .build();
+    private volatile CachedTimestamp cachedTimestamp = new CachedTimestamp(null, null);
+
+    public ApiResponseSerializer() {
+        super(ApiResponse.class, false);
+    }
+
+    @Override
+    public void serialize(ApiResponse<?> value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(value);
+
+        gen.writeFieldName(TIMESTAMP);
+        writeTimestamp(value.getTimestamp(), gen);
+
+        gen.writeFieldName(STATUS);
+        if (value.getStatus() != null) {
+            gen.writeNumber(value.getStatus());
+        } else {
+            gen.writeNull();
+        }
+
+        gen.writeFieldName(SUCCESS);
+        if (value.getSuccess() != null) {
+            gen.writeBoolean(value.getSuccess());
+        } else {
+            gen.writeNull();
+        }
+
+        gen.writeFieldName(MESSAGE);
+        writeMessage(value.getMessage(), gen);
+
+        gen.writeFieldName(DATA);
+        provider.defaultSerializeValue(value.getData(), gen);
+
+        gen.writeFieldName(ERROR);
+        provider.defaultSerializeValue(value.getError(), gen);
+
+        gen.writeFieldName(PATH);
+        gen.writeString(value.getPath());
+
+        gen.writeEndObject();
+    }
+
+    private void writeTimestamp(LocalDateTime timestamp, JsonGenerator gen) throws IOException {
+        if (timestamp == null) {
+            gen.writeNull();
+            return;
+        }
+
+        LocalDateTime truncated = timestamp.truncatedTo(ChronoUnit.MILLIS);
+        CachedTimestamp current = cachedTimestamp;
+        if (!truncated.equals(current.value())) {
+            current = new CachedTimestamp(truncated,
+                    new SerializedString(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(truncated)));
+            cachedTimestamp = current;
+        }
+        gen.writeString(current.formatted());
+    }
+
+    private void writeMessage(String value, JsonGenerator gen) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+            return;
+        }
+
+        SerializedString cached = cachedMessages.getIfPresent(value);
+        if (cached == null) {
+            cached = new SerializedString(value);
+            cachedMessages.put(value, cached);
+        }
+        gen.writeString(cached);
+    }
+
+    private record CachedTimestamp(LocalDateTime value, SerializedString formatted) {
+    }
+}
@@ -0,0 +1,20 @@
+package com.vtlong.my_spring_boot_project.dto.request;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchIntrospectRequest {
+    @NotEmpty(message = "Tokens are required")
+    @Size(max = 1000, message = "At most 1000 tokens can be introspected per request")
+    private List<String> tokens;
+}
@@ -11,7 +11,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import com.vtlong.my_spring_boot_project.model.Gender;
-import com.vtlong.my_spring_boot_project.model.Role;
+import com.vtlong.my_spring_boot_project.model.RoleType;
 
 @Data
 @Builder
@@ -29,5 +29,5 @@ public class CreateUserRequestDto {
     private LocalDate dateOfBirth;
     private String phone;
     private String address;
-    private Set<Role> roles;
+    private Set<RoleType> roles;
 }
@@ -11,4 +11,5 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 public class LogoutRequest {
     private String token;
+    private String refreshToken;
 }
@@ -11,6 +11,6 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 public class RefreshTokenRequest {
-    @NotBlank(message = "Token is required")
-    private String token;
+    @NotBlank(message = "Refresh token is required")
+    private String refreshToken;
 }
@@ -9,7 +9,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import com.vtlong.my_spring_boot_project.model.Gender;
-import com.vtlong.my_spring_boot_project.model.Role;
+import com.vtlong.my_spring_boot_project.model.RoleType;
 
 @Data
 @Builder
@@ -24,5 +24,5 @@ public class UpdateUserRequestDto {
     private LocalDate dateOfBirth;
     private String phone;
     private String address;
-    private Set<Role> roles;
+    private Set<RoleType> roles;
 }
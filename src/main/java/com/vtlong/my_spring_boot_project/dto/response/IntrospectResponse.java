@@ -1,5 +1,9 @@
 package com.vtlong.my_spring_boot_project.dto.response;
 
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -9,6 +13,11 @@ import lombok.NoArgsConstructor;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class IntrospectResponse {
     private boolean valid;
+    private String sub;
+    private String userId;
+    private List<String> scope;
+    private Long exp;
 }
@@ -12,4 +12,5 @@ import lombok.NoArgsConstructor;
 public class LoginResponse {
     private boolean success;
     private String token;
+    private String refreshToken;
 }
\ No newline at end of file
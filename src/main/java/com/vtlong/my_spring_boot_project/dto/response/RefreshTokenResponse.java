@@ -12,5 +12,6 @@ import lombok.NoArgsConstructor;
 public class RefreshTokenResponse {
     private boolean success;
     private String token;
+    private String refreshToken;
     private String message;
 }
\ No newline at end of file
@@ -10,7 +10,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import com.vtlong.my_spring_boot_project.model.Gender;
-import com.vtlong.my_spring_boot_project.model.Role;
+import com.vtlong.my_spring_boot_project.model.RoleType;
 
 @Data
 @Builder
@@ -26,7 +26,7 @@ public class UserResponseDto {
     private LocalDate dateOfBirth;
     private String phone;
     private String address;
-    private Set<Role> roles;
+    private Set<RoleType> roles;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 }
@@ -1,21 +1,50 @@
 package com.vtlong.my_spring_boot_project.exception;
 
+import java.util.EnumMap;
+import java.util.Map;
+
 public class AppException extends RuntimeException {
+    private static final Map<ErrorCode, AppException> STACKLESS = new EnumMap<>(ErrorCode.class);
+
+    static {
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            STACKLESS.put(errorCode, new AppException(errorCode, errorCode.getMessage(), false));
+        }
+    }
+
     private final ErrorCode errorCode;
+    private final boolean stackless;
 
     public AppException(ErrorCode errorCode) {
         super(errorCode.getMessage());
         this.errorCode = errorCode;
+        this.stackless = false;
     }
 
     public AppException(ErrorCode errorCode, String message) {
         super(message);
         this.errorCode = errorCode;
+        this.stackless = false;
     }
 
     public AppException(ErrorCode errorCode, String message, Throwable cause) {
         super(message, cause);
         this.errorCode = errorCode;
+        this.stackless = false;
+    }
+
+    protected AppException(ErrorCode errorCode, String message, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+        this.errorCode = errorCode;
+        this.stackless = !writableStackTrace;
+    }
+
+    public static AppException stackless(ErrorCode errorCode) {
+        return STACKLESS.get(errorCode);
+    }
+
+    public static AppException stackless(ErrorCode errorCode, String message) {
+        return new AppException(errorCode, message, false);
     }
 
     public ErrorCode getErrorCode() {
@@ -26,9 +55,13 @@ public class AppException extends RuntimeException {
         return errorCode.getCode();
     }
 
+    public boolean isStackless() {
+        return stackless;
+    }
+
     @Override
     public String toString() {
         return String.format("AppException{errorCode=%s, message='%s'}",
                 errorCode, getMessage());
     }
-}
\ No newline at end of file
+}
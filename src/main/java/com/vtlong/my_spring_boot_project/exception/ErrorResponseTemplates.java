@@ -0,0 +1,102 @@
+package com.vtlong.my_spring_boot_project.exception;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@Component
+public class ErrorResponseTemplates {
+
+    private static final byte[] TIMESTAMP_PREFIX = "{\"timestamp\":\"".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] QUOTE = "\"".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] NULL_PATH_SUFFIX = "null}".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] PATH_SUFFIX = "\"}".getBytes(StandardCharsets.UTF_8);
+    private static final int MAX_TEMPLATES = 256;
+
+    private final ObjectMapper objectMapper;
+    private final Map<AppException, byte[]> templates = new ConcurrentHashMap<>();
+    private final ZoneId zoneId = ZoneId.systemDefault();
+    private volatile CachedTimestamp cachedTimestamp = new CachedTimestamp(0, new byte[0]);
+
+    public ErrorResponseTemplates(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            templates.put(AppException.stackless(errorCode), build(AppException.stackless(errorCode)));
+        }
+    }
+
+    public byte[] render(AppException ex, String path) {
+        byte[] template = templates.get(ex);
+        if (template == null) {
+            template = build(ex);
+            if (templates.size() < MAX_TEMPLATES) {
+                templates.putIfAbsent(ex, template);
+            }
+        }
+        byte[] timestamp = timestamp();
+        byte[] encodedPath = path != null ? JsonStringEncoder.getInstance().quoteAsUTF8(path) : null;
+
+        int length = TIMESTAMP_PREFIX.length + timestamp.length + template.length
+                + (encodedPath != null ? QUOTE.length + encodedPath.length + PATH_SUFFIX.length
+                        : NULL_PATH_SUFFIX.length);
+        byte[] body = new byte[length];
+        int offset = append(body, 0, TIMESTAMP_PREFIX);
+        offset = append(body, offset, timestamp);
+        offset = append(body, offset, template);
+        if (encodedPath != null) {
+            offset = append(body, offset, QUOTE);
+            offset = append(body, offset, encodedPath);
+            append(body, offset, PATH_SUFFIX);
+        } else {
+            append(body, offset, NULL_PATH_SUFFIX);
+        }
+        return body;
+    }
+
+    private byte[] build(AppException ex) {
+        ErrorCode errorCode = ex.getErrorCode();
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(128);
+            out.writeBytes(("\",\"status\":" + errorCode.getHttpStatus().value()
+                    + ",\"success\":false,\"message\":").getBytes(StandardCharsets.UTF_8));
+            out.writeBytes(objectMapper.writeValueAsBytes(ex.getMessage()));
+            out.writeBytes(",\"data\":null,\"error\":".getBytes(StandardCharsets.UTF_8));
+            out.writeBytes(objectMapper.writeValueAsBytes(errorCode.getCode()));
+            out.writeBytes(",\"path\":".getBytes(StandardCharsets.UTF_8));
+            return out.toByteArray();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to pre-serialize error response for " + errorCode, e);
+        }
+    }
+
+    private byte[] timestamp() {
+        long now = System.currentTimeMillis();
+        CachedTimestamp current = cachedTimestamp;
+        if (current.millis() != now) {
+            LocalDateTime dateTime = LocalDateTime.ofInstant(Instant.ofEpochMilli(now), zoneId);
+            current = new CachedTimestamp(now,
+                    DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(dateTime).getBytes(StandardCharsets.US_ASCII));
+            cachedTimestamp = current;
+        }
+        return current.bytes();
+    }
+
+    private static int append(byte[] target, int offset, byte[] source) {
+        System.arraycopy(source, 0, target, offset, source.length);
+        return offset + source.length;
+    }
+
+    private record CachedTimestamp(long millis, byte[] bytes) {
+    }
+}
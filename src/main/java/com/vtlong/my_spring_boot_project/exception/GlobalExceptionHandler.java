@@ -1,9 +1,14 @@
 package com.vtlong.my_spring_boot_project.exception;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.security.access.AccessDeniedException;
@@ -22,6 +27,7 @@ import org.springframework.web.method.annotation.MethodArgumentTypeMismatchExcep
 import org.springframework.web.HttpRequestMethodNotSupportedException;
 
 import com.vtlong.my_spring_boot_project.dto.ApiResponse;
+import com.vtlong.my_spring_boot_project.monitoring.AuthMetrics;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ConstraintViolation;
@@ -30,12 +36,27 @@ import jakarta.validation.ConstraintViolationException;
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+        private final AuthMetrics authMetrics;
+        private final ErrorResponseTemplates errorResponseTemplates;
+
+        public GlobalExceptionHandler(AuthMetrics authMetrics, ErrorResponseTemplates errorResponseTemplates) {
+                this.authMetrics = authMetrics;
+                this.errorResponseTemplates = errorResponseTemplates;
+        }
+
         @ExceptionHandler(AppException.class)
-        public ResponseEntity<ApiResponse<Object>> handleAppException(
+        public ResponseEntity<?> handleAppException(
                         AppException ex, HttpServletRequest request) {
 
                 ErrorCode errorCode = ex.getErrorCode();
-                HttpStatus httpStatus = determineHttpStatus(errorCode);
+                HttpStatus httpStatus = errorCode.getHttpStatus();
+                authMetrics.recordError(errorCode);
+
+                if (ex.isStackless() && acceptsJson(request)) {
+                        return ResponseEntity.status(httpStatus)
+                                        .contentType(MediaType.APPLICATION_JSON)
+                                        .body(errorResponseTemplates.render(ex, request.getRequestURI()));
+                }
 
                 ApiResponse<Object> apiResponse = ApiResponse.error(
                                 ex.getMessage(),
@@ -46,10 +67,33 @@ public class GlobalExceptionHandler {
                 return ResponseEntity.status(httpStatus).body(apiResponse);
         }
 
+        private boolean acceptsJson(HttpServletRequest request) {
+                String accept = request.getHeader(HttpHeaders.ACCEPT);
+                if (accept == null || accept.isBlank()) {
+                        return true;
+                }
+
+                List<MediaType> mediaTypes;
+                try {
+                        mediaTypes = new ArrayList<>(MediaType.parseMediaTypes(accept));
+                } catch (InvalidMediaTypeException e) {
+                        return false;
+                }
+                if (mediaTypes.isEmpty()) {
+                        return true;
+                }
+
+                mediaTypes.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+                MediaType preferred = mediaTypes.get(0);
+                return preferred.getQualityValue() > 0 && preferred.isCompatibleWith(MediaType.APPLICATION_JSON);
+        }
+
         @ExceptionHandler(AccessDeniedException.class)
         public ResponseEntity<ApiResponse<Object>> handleAccessDeniedException(
                         AccessDeniedException ex, HttpServletRequest request) {
 
+                authMetrics.recordError("AccessDeniedException", HttpStatus.FORBIDDEN);
+
                 ApiResponse<Object> apiResponse = ApiResponse.error(
                                 "You do not have permission to access this resource",
                                 HttpStatus.FORBIDDEN.value(),
@@ -63,6 +107,8 @@ public class GlobalExceptionHandler {
         public ResponseEntity<ApiResponse<Object>> handleAuthorizationDeniedException(
                         AuthorizationDeniedException ex, HttpServletRequest request) {
 
+                authMetrics.recordError("AuthorizationDeniedException", HttpStatus.FORBIDDEN);
+
                 ApiResponse<Object> apiResponse = ApiResponse.error(
                                 "Access permission denied",
                                 HttpStatus.FORBIDDEN.value(),
@@ -76,6 +122,8 @@ public class GlobalExceptionHandler {
         public ResponseEntity<ApiResponse<Object>> handleJwtException(
                         JwtException ex, HttpServletRequest request) {
 
+                authMetrics.recordError("JwtException", HttpStatus.UNAUTHORIZED);
+
                 ApiResponse<Object> apiResponse = ApiResponse.error(
                                 ex.getMessage(),
                                 HttpStatus.UNAUTHORIZED.value(),
@@ -89,6 +137,8 @@ public class GlobalExceptionHandler {
         public ResponseEntity<ApiResponse<Object>> handleAuthenticationException(
                         AuthenticationException ex, HttpServletRequest request) {
 
+                authMetrics.recordError("AuthenticationException", HttpStatus.UNAUTHORIZED);
+
                 ApiResponse<Object> apiResponse = ApiResponse.error(
                                 "Authentication failed: " + ex.getMessage(),
                                 HttpStatus.UNAUTHORIZED.value(),
@@ -102,6 +152,8 @@ public class GlobalExceptionHandler {
         public ResponseEntity<ApiResponse<Object>> handleBadCredentialsException(
                         BadCredentialsException ex, HttpServletRequest request) {
 
+                authMetrics.recordError("BadCredentialsException", HttpStatus.UNAUTHORIZED);
+
                 ApiResponse<Object> apiResponse = ApiResponse.error(
                                 "Invalid credentials",
                                 HttpStatus.UNAUTHORIZED.value(),
@@ -115,6 +167,8 @@ public class GlobalExceptionHandler {
         public ResponseEntity<ApiResponse<Object>> handleAuthenticationCredentialsNotFoundException(
                         AuthenticationCredentialsNotFoundException ex, HttpServletRequest request) {
 
+                authMetrics.recordError("AuthenticationCredentialsNotFoundException", HttpStatus.UNAUTHORIZED);
+
                 ApiResponse<Object> apiResponse = ApiResponse.error(
                                 "Authentication credentials not found",
                                 HttpStatus.UNAUTHORIZED.value(),
@@ -128,6 +182,8 @@ public class GlobalExceptionHandler {
         public ResponseEntity<ApiResponse<Object>> handleInsufficientAuthenticationException(
                         InsufficientAuthenticationException ex, HttpServletRequest request) {
 
+                authMetrics.recordError("InsufficientAuthenticationException", HttpStatus.UNAUTHORIZED);
+
                 ApiResponse<Object> apiResponse = ApiResponse.error(
                                 "Insufficient authentication",
                                 HttpStatus.UNAUTHORIZED.value(),
@@ -137,39 +193,12 @@ public class GlobalExceptionHandler {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(apiResponse);
         }
 
-        private HttpStatus determineHttpStatus(ErrorCode errorCode) {
-                switch (errorCode) {
-                        case USER_NOT_FOUND:
-                        case ROLE_NOT_FOUND:
-                        case RESOURCE_NOT_FOUND:
-                                return HttpStatus.NOT_FOUND;
-                        case USER_ALREADY_EXISTS:
-                        case ROLE_ALREADY_EXISTS:
-                                return HttpStatus.CONFLICT;
-                        case USER_INVALID_INPUT:
-                        case VALIDATION_ERROR:
-                        case BAD_REQUEST:
-                                return HttpStatus.BAD_REQUEST;
-                        case USER_UNAUTHORIZED:
-                                return HttpStatus.UNAUTHORIZED;
-                        case METHOD_NOT_ALLOWED:
-                                return HttpStatus.METHOD_NOT_ALLOWED;
-                        case REQUEST_TIMEOUT:
-                                return HttpStatus.REQUEST_TIMEOUT;
-                        case TOO_MANY_REQUESTS:
-                                return HttpStatus.TOO_MANY_REQUESTS;
-                        case SERVICE_UNAVAILABLE:
-                                return HttpStatus.SERVICE_UNAVAILABLE;
-                        case INTERNAL_SERVER_ERROR:
-                        default:
-                                return HttpStatus.INTERNAL_SERVER_ERROR;
-                }
-        }
-
         @ExceptionHandler(MethodArgumentNotValidException.class)
         public ResponseEntity<ApiResponse<Object>> handleValidationExceptions(
                         MethodArgumentNotValidException ex, HttpServletRequest request) {
 
+                authMetrics.recordError("MethodArgumentNotValidException", HttpStatus.BAD_REQUEST);
+
                 List<String> errors = ex.getBindingResult()
                                 .getFieldErrors()
                                 .stream()
@@ -191,6 +220,8 @@ public class GlobalExceptionHandler {
         public ResponseEntity<ApiResponse<Object>> handleConstraintViolation(
                         ConstraintViolationException ex, HttpServletRequest request) {
 
+                authMetrics.recordError("ConstraintViolationException", HttpStatus.BAD_REQUEST);
+
                 List<String> errors = ex.getConstraintViolations()
                                 .stream()
                                 .map(ConstraintViolation::getMessage)
@@ -211,6 +242,8 @@ public class GlobalExceptionHandler {
         public ResponseEntity<ApiResponse<Object>> handleHttpMessageNotReadable(
                         HttpMessageNotReadableException ex, HttpServletRequest request) {
 
+                authMetrics.recordError("HttpMessageNotReadableException", HttpStatus.BAD_REQUEST);
+
                 ApiResponse<Object> apiResponse = ApiResponse.error(
                                 "Request body format is invalid",
                                 HttpStatus.BAD_REQUEST.value(),
@@ -224,6 +257,8 @@ public class GlobalExceptionHandler {
         public ResponseEntity<ApiResponse<Object>> handleMissingParameter(
                         MissingServletRequestParameterException ex, HttpServletRequest request) {
 
+                authMetrics.recordError("MissingServletRequestParameterException", HttpStatus.BAD_REQUEST);
+
                 ApiResponse<Object> apiResponse = ApiResponse.error(
                                 "Required parameter '" + ex.getParameterName() + "' is missing",
                                 HttpStatus.BAD_REQUEST.value(),
@@ -237,6 +272,8 @@ public class GlobalExceptionHandler {
         public ResponseEntity<ApiResponse<Object>> handleException(
                         MethodArgumentTypeMismatchException ex, HttpServletRequest request) {
 
+                authMetrics.recordError("MethodArgumentTypeMismatchException", HttpStatus.BAD_REQUEST);
+
                 Class<?> requiredType = ex.getRequiredType();
                 String typeName = requiredType != null ? requiredType.getSimpleName() : "unknown";
 
@@ -253,6 +290,8 @@ public class GlobalExceptionHandler {
         public ResponseEntity<ApiResponse<Object>> handleMethodNotSupported(
                         HttpRequestMethodNotSupportedException ex, HttpServletRequest request) {
 
+                authMetrics.recordError("HttpRequestMethodNotSupportedException", HttpStatus.METHOD_NOT_ALLOWED);
+
                 ApiResponse<Object> apiResponse = ApiResponse.error(
                                 "HTTP method '" + ex.getMethod() + "' is not supported for this endpoint",
                                 HttpStatus.METHOD_NOT_ALLOWED.value(),
@@ -266,6 +305,8 @@ public class GlobalExceptionHandler {
         public ResponseEntity<ApiResponse<Object>> handleIllegalArgumentException(
                         IllegalArgumentException ex, HttpServletRequest request) {
 
+                authMetrics.recordError("IllegalArgumentException", HttpStatus.BAD_REQUEST);
+
                 ApiResponse<Object> apiResponse = ApiResponse.error(
                                 ex.getMessage(),
                                 HttpStatus.BAD_REQUEST.value(),
@@ -279,6 +320,8 @@ public class GlobalExceptionHandler {
         public ResponseEntity<ApiResponse<Object>> handleGenericException(
                         Exception ex, HttpServletRequest request) {
 
+                authMetrics.recordError("Exception", HttpStatus.INTERNAL_SERVER_ERROR);
+
                 ApiResponse<Object> apiResponse = ApiResponse.error(
                                 "An unexpected error occurred. Please try again later.",
                                 HttpStatus.INTERNAL_SERVER_ERROR.value(),
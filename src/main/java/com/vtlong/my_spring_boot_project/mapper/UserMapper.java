@@ -1,6 +1,8 @@
 package com.vtlong.my_spring_boot_project.mapper;
 
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -9,7 +11,10 @@ import org.mapstruct.MappingTarget;
 import com.vtlong.my_spring_boot_project.dto.request.CreateUserRequestDto;
 import com.vtlong.my_spring_boot_project.dto.request.UpdateUserRequestDto;
 import com.vtlong.my_spring_boot_project.dto.response.UserResponseDto;
+import com.vtlong.my_spring_boot_project.model.Role;
+import com.vtlong.my_spring_boot_project.model.RoleType;
 import com.vtlong.my_spring_boot_project.model.User;
+import com.vtlong.my_spring_boot_project.repository.projection.UserView;
 
 @Mapper(componentModel = "spring")
 public interface UserMapper {
@@ -17,15 +22,48 @@ public interface UserMapper {
     UserResponseDto toResponseDto(User user);
     
     List<UserResponseDto> toResponseDtoList(List<User> users);
+
+    @Mapping(target = "roles", source = "roleCodes")
+    UserResponseDto fromView(UserView userView);
+
+    List<UserResponseDto> fromViews(List<UserView> userViews);
     
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "roles", ignore = true)
+    @Mapping(target = "tokenGeneration", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
     User toEntity(CreateUserRequestDto createUserRequestDto);
     
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "password", ignore = true)
+    @Mapping(target = "roles", ignore = true)
+    @Mapping(target = "tokenGeneration", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
     void updateEntityFromRequestDto(UpdateUserRequestDto updateUserRequestDto, @MappingTarget User user);
+
+    default Set<RoleType> toRoleTypes(Set<Role> roles) {
+        if (roles == null) {
+            return null;
+        }
+
+        Set<RoleType> roleTypes = EnumSet.noneOf(RoleType.class);
+        for (Role role : roles) {
+            roleTypes.add(role.getName());
+        }
+        return roleTypes;
+    }
+
+    default Set<RoleType> toRoleTypes(String roleCodes) {
+        Set<RoleType> roleTypes = EnumSet.noneOf(RoleType.class);
+        if (roleCodes == null || roleCodes.isEmpty()) {
+            return roleTypes;
+        }
+
+        for (String roleCode : roleCodes.split(",")) {
+            roleTypes.add(RoleType.valueOf(roleCode));
+        }
+        return roleTypes;
+    }
 }
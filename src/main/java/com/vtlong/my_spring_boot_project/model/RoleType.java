@@ -3,7 +3,8 @@ package com.vtlong.my_spring_boot_project.model;
 public enum RoleType {
     ADMIN("ADMIN", "Administrator"),
     MODERATOR("MODERATOR", "Moderator"),
-    USER("USER", "Regular User");
+    USER("USER", "Regular User"),
+    SERVICE("SERVICE", "Internal Service");
 
     private final String code;
     private final String description;
@@ -46,7 +46,8 @@ import jakarta.persistence.FetchType;
 @Entity
 @Table(name = "users", indexes = {
         @Index(name = "idx_users_username", columnList = "username", unique = true),
-        @Index(name = "idx_users_email", columnList = "email", unique = true)
+        @Index(name = "idx_users_email", columnList = "email", unique = true),
+        @Index(name = "idx_users_updated_at", columnList = "updated_at")
 })
 public class User {
     @Id
@@ -105,6 +106,9 @@ public class User {
     @Column(name = "address", length = 255)
     private String address;
 
+    @Column(name = "token_generation", nullable = false)
+    private long tokenGeneration;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
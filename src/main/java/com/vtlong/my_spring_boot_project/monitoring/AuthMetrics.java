@@ -0,0 +1,77 @@
+package com.vtlong.my_spring_boot_project.monitoring;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import com.vtlong.my_spring_boot_project.exception.ErrorCode;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+@Getter
+@Component
+public class AuthMetrics {
+
+    private static final String NO_CODE = "none";
+    private static final String APP_EXCEPTION = "AppException";
+
+    @Getter(AccessLevel.NONE)
+    private final MeterRegistry meterRegistry;
+    private final Timer jwtVerify;
+    private final Timer jwtRevocation;
+    private final Timer loginUserLookup;
+    private final Timer loginPasswordCheck;
+    private final Timer tokenGeneration;
+    @Getter(AccessLevel.NONE)
+    private final Map<ErrorCode, Counter> appErrors = new EnumMap<>(ErrorCode.class);
+    @Getter(AccessLevel.NONE)
+    private final Map<String, Counter> handlerErrors = new ConcurrentHashMap<>();
+
+    public AuthMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.jwtVerify = timer("auth.jwt.decode", "phase", "verify", "Bearer token decoding");
+        this.jwtRevocation = timer("auth.jwt.decode", "phase", "revocation", "Bearer token decoding");
+        this.loginUserLookup = timer("auth.login", "phase", "user_lookup", "Login request phases");
+        this.loginPasswordCheck = timer("auth.login", "phase", "password_check", "Login request phases");
+        this.tokenGeneration = timer("auth.token.generation", "type", "access", "Access token build and sign");
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            appErrors.put(errorCode, errorCounter(APP_EXCEPTION, errorCode.getHttpStatus(), errorCode.getCode()));
+        }
+    }
+
+    public void recordError(ErrorCode errorCode) {
+        appErrors.get(errorCode).increment();
+    }
+
+    public void recordError(String handler, HttpStatus status) {
+        Counter counter = handlerErrors.get(handler);
+        if (counter == null) {
+            counter = handlerErrors.computeIfAbsent(handler, key -> errorCounter(key, status, NO_CODE));
+        }
+        counter.increment();
+    }
+
+    private Counter errorCounter(String handler, HttpStatus status, String code) {
+        return Counter.builder("api.errors")
+                .description("Requests answered by GlobalExceptionHandler")
+                .tag("handler", handler)
+                .tag("status", String.valueOf(status.value()))
+                .tag("code", code)
+                .register(meterRegistry);
+    }
+
+    private Timer timer(String name, String tagKey, String tagValue, String description) {
+        return Timer.builder(name)
+                .description(description)
+                .tag(tagKey, tagValue)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
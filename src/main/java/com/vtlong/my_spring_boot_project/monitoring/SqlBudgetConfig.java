@@ -0,0 +1,19 @@
+package com.vtlong.my_spring_boot_project.monitoring;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "sql-budget")
+public class SqlBudgetConfig {
+    private boolean enabled = true;
+    private int maxStatements = 10;
+    private long slowStatementThresholdMs = 200;
+    private Map<String, Integer> endpoints = new HashMap<>();
+}
@@ -0,0 +1,87 @@
+package com.vtlong.my_spring_boot_project.monitoring;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class SqlBudgetInterceptor implements HandlerInterceptor {
+
+    private final SqlBudgetConfig sqlBudgetConfig;
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<Method, EndpointMeters> endpointMeters = new ConcurrentHashMap<>();
+
+    public SqlBudgetInterceptor(SqlBudgetConfig sqlBudgetConfig, MeterRegistry meterRegistry) {
+        this.sqlBudgetConfig = sqlBudgetConfig;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod) {
+            SqlStatementStats.begin();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+            Exception ex) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return;
+        }
+
+        SqlStatementStats stats = SqlStatementStats.end();
+        if (stats == null) {
+            return;
+        }
+
+        EndpointMeters meters = endpointMeters.computeIfAbsent(handlerMethod.getMethod(),
+                method -> register(handlerMethod));
+        meters.statements().record(stats.getStatementCount());
+        meters.time().record(stats.getTotalNanos(), TimeUnit.NANOSECONDS);
+
+        if (stats.getStatementCount() > meters.budget()) {
+            log.warn("{} executed {} SQL statements (budget {}) in {} ms", meters.endpoint(),
+                    stats.getStatementCount(), meters.budget(),
+                    TimeUnit.NANOSECONDS.toMillis(stats.getTotalNanos()));
+        }
+
+        long slowestMs = TimeUnit.NANOSECONDS.toMillis(stats.getSlowestNanos());
+        if (slowestMs >= sqlBudgetConfig.getSlowStatementThresholdMs()) {
+            log.warn("{} slow SQL statement took {} ms: {}", meters.endpoint(), slowestMs, stats.getSlowestSql());
+        }
+    }
+
+    private EndpointMeters register(HandlerMethod handlerMethod) {
+        String endpoint = handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+        int budget = sqlBudgetConfig.getEndpoints().getOrDefault(endpoint, sqlBudgetConfig.getMaxStatements());
+
+        DistributionSummary statements = DistributionSummary.builder("http.server.requests.sql.statements")
+                .description("SQL statements executed per request")
+                .tag("endpoint", endpoint)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Timer time = Timer.builder("http.server.requests.sql.time")
+                .description("Time spent executing SQL per request")
+                .tag("endpoint", endpoint)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+
+        return new EndpointMeters(endpoint, budget, statements, time);
+    }
+
+    private record EndpointMeters(String endpoint, int budget, DistributionSummary statements, Timer time) {
+    }
+}
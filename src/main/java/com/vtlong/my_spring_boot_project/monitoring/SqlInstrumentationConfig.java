@@ -0,0 +1,42 @@
+package com.vtlong.my_spring_boot_project.monitoring;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+@ConditionalOnProperty(prefix = "sql-budget", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SqlInstrumentationConfig implements WebMvcConfigurer {
+
+    private final SqlBudgetConfig sqlBudgetConfig;
+    private final MeterRegistry meterRegistry;
+
+    public SqlInstrumentationConfig(SqlBudgetConfig sqlBudgetConfig, MeterRegistry meterRegistry) {
+        this.sqlBudgetConfig = sqlBudgetConfig;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Bean
+    public SqlBudgetInterceptor sqlBudgetInterceptor() {
+        return new SqlBudgetInterceptor(sqlBudgetConfig, meterRegistry);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementHibernateCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementInspector());
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, SqlStatementListener.class.getName());
+        };
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(sqlBudgetInterceptor());
+    }
+}
@@ -0,0 +1,12 @@
+package com.vtlong.my_spring_boot_project.monitoring;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+public class SqlStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        SqlStatementStats.prepared(sql);
+        return sql;
+    }
+}
@@ -0,0 +1,28 @@
+package com.vtlong.my_spring_boot_project.monitoring;
+
+import org.hibernate.BaseSessionEventListener;
+
+public class SqlStatementListener extends BaseSessionEventListener {
+
+    private long executionStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executionStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        SqlStatementStats.executed(System.nanoTime() - executionStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        executionStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        SqlStatementStats.executed(System.nanoTime() - executionStart);
+    }
+}
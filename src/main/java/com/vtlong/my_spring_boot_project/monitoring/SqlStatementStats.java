@@ -0,0 +1,60 @@
+package com.vtlong.my_spring_boot_project.monitoring;
+
+public final class SqlStatementStats {
+
+    private static final ThreadLocal<SqlStatementStats> CURRENT = new ThreadLocal<>();
+
+    private int statementCount;
+    private long totalNanos;
+    private long slowestNanos;
+    private String slowestSql;
+    private String lastSql;
+
+    private SqlStatementStats() {
+    }
+
+    public static void begin() {
+        CURRENT.set(new SqlStatementStats());
+    }
+
+    public static SqlStatementStats end() {
+        SqlStatementStats stats = CURRENT.get();
+        CURRENT.remove();
+        return stats;
+    }
+
+    static void prepared(String sql) {
+        SqlStatementStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.lastSql = sql;
+        }
+    }
+
+    static void executed(long nanos) {
+        SqlStatementStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.statementCount++;
+            stats.totalNanos += nanos;
+            if (nanos > stats.slowestNanos) {
+                stats.slowestNanos = nanos;
+                stats.slowestSql = stats.lastSql;
+            }
+        }
+    }
+
+    public int getStatementCount() {
+        return statementCount;
+    }
+
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    public long getSlowestNanos() {
+        return slowestNanos;
+    }
+
+    public String getSlowestSql() {
+        return slowestSql;
+    }
+}
@@ -0,0 +1,55 @@
+package com.vtlong.my_spring_boot_project.monitoring;
+
+import java.util.Comparator;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class StartupTimeReporter {
+
+    private static final String BEAN_INSTANTIATION = "spring.beans.instantiate";
+
+    private final int topBeans;
+
+    public StartupTimeReporter(@Value("${startup.report.top-beans:0}") int topBeans) {
+        this.topBeans = topBeans;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void report(ApplicationReadyEvent event) {
+        if (topBeans <= 0
+                || !(event.getApplicationContext().getApplicationStartup() instanceof BufferingApplicationStartup startup)) {
+            return;
+        }
+
+        StartupTimeline timeline = startup.getBufferedTimeline();
+        String slowest = timeline.getEvents().stream()
+                .filter(step -> BEAN_INSTANTIATION.equals(step.getStartupStep().getName()))
+                .sorted(Comparator.comparing(StartupTimeline.TimelineEvent::getDuration).reversed())
+                .limit(topBeans)
+                .map(step -> beanName(step.getStartupStep()) + "=" + step.getDuration().toMillis() + "ms")
+                .collect(Collectors.joining(", "));
+
+        log.info("Started in {} ms; slowest bean instantiations (inclusive): {}",
+                event.getTimeTaken() != null ? event.getTimeTaken().toMillis() : -1, slowest);
+    }
+
+    private String beanName(StartupStep step) {
+        return StreamSupport.stream(step.getTags().spliterator(), false)
+                .filter(tag -> "beanName".equals(tag.getKey()))
+                .map(StartupStep.Tag::getValue)
+                .findFirst()
+                .orElse("?");
+    }
+}
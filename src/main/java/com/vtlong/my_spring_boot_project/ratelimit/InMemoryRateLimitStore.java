@@ -0,0 +1,25 @@
+package com.vtlong.my_spring_boot_project.ratelimit;
+
+import java.time.Duration;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+public class InMemoryRateLimitStore implements RateLimitStore {
+
+    private final Cache<String, TokenBucket> buckets;
+
+    public InMemoryRateLimitStore(long maxEntries, Duration idleExpiry) {
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterAccess(idleExpiry)
+                .build();
+    }
+
+    @Override
+    public boolean tryConsume(String key, int capacity, Duration refillPeriod) {
+        long now = System.nanoTime();
+        TokenBucket bucket = buckets.get(key, k -> new TokenBucket(capacity, now));
+        return bucket.tryConsume(capacity, refillPeriod.toNanos(), now);
+    }
+}
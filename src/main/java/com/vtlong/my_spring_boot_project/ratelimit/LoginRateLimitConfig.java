@@ -0,0 +1,27 @@
+package com.vtlong.my_spring_boot_project.ratelimit;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "rate-limit.login")
+public class LoginRateLimitConfig {
+    private boolean enabled = true;
+    private int ipCapacity = 20;
+    private Duration ipRefillPeriod = Duration.ofMinutes(1);
+    private int emailCapacity = 5;
+    private Duration emailRefillPeriod = Duration.ofMinutes(1);
+    private long maxEntries = 100_000;
+
+    @Bean
+    public RateLimitStore loginRateLimitStore() {
+        Duration idleExpiry = ipRefillPeriod.compareTo(emailRefillPeriod) > 0 ? ipRefillPeriod : emailRefillPeriod;
+        return new InMemoryRateLimitStore(maxEntries, idleExpiry);
+    }
+}
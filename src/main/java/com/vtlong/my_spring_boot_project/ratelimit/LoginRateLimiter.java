@@ -0,0 +1,39 @@
+package com.vtlong.my_spring_boot_project.ratelimit;
+
+import java.util.Locale;
+
+import org.springframework.stereotype.Component;
+
+import com.vtlong.my_spring_boot_project.exception.AppException;
+import com.vtlong.my_spring_boot_project.exception.ErrorCode;
+
+@Component
+public class LoginRateLimiter {
+
+    private static final String IP_PREFIX = "login:ip:";
+    private static final String EMAIL_PREFIX = "login:email:";
+
+    private final RateLimitStore rateLimitStore;
+    private final LoginRateLimitConfig config;
+
+    public LoginRateLimiter(RateLimitStore rateLimitStore, LoginRateLimitConfig config) {
+        this.rateLimitStore = rateLimitStore;
+        this.config = config;
+    }
+
+    public void check(String clientIp, String email) {
+        if (!config.isEnabled()) {
+            return;
+        }
+
+        if (clientIp != null
+                && !rateLimitStore.tryConsume(IP_PREFIX + clientIp, config.getIpCapacity(), config.getIpRefillPeriod())) {
+            throw AppException.stackless(ErrorCode.TOO_MANY_REQUESTS);
+        }
+
+        if (email != null && !rateLimitStore.tryConsume(EMAIL_PREFIX + email.toLowerCase(Locale.ROOT),
+                config.getEmailCapacity(), config.getEmailRefillPeriod())) {
+            throw AppException.stackless(ErrorCode.TOO_MANY_REQUESTS);
+        }
+    }
+}
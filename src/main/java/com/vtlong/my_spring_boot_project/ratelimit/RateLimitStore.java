@@ -0,0 +1,8 @@
+package com.vtlong.my_spring_boot_project.ratelimit;
+
+import java.time.Duration;
+
+public interface RateLimitStore {
+
+    boolean tryConsume(String key, int capacity, Duration refillPeriod);
+}
@@ -0,0 +1,26 @@
+package com.vtlong.my_spring_boot_project.ratelimit;
+
+final class TokenBucket {
+
+    private double tokens;
+    private long lastRefillNanos;
+
+    TokenBucket(int capacity, long nowNanos) {
+        this.tokens = capacity;
+        this.lastRefillNanos = nowNanos;
+    }
+
+    synchronized boolean tryConsume(int capacity, long refillPeriodNanos, long nowNanos) {
+        long elapsed = nowNanos - lastRefillNanos;
+        if (elapsed > 0) {
+            tokens = Math.min(capacity, tokens + (double) elapsed * capacity / refillPeriodNanos);
+            lastRefillNanos = nowNanos;
+        }
+
+        if (tokens < 1) {
+            return false;
+        }
+        tokens--;
+        return true;
+    }
+}
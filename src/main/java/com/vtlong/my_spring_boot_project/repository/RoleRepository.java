@@ -1,5 +1,7 @@
 package com.vtlong.my_spring_boot_project.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -13,4 +15,6 @@ public interface RoleRepository extends JpaRepository<Role, Long> {
     Optional<Role> findByName(RoleType name);
 
     boolean existsByName(RoleType name);
+
+    List<Role> findByNameIn(Collection<RoleType> names);
 }
\ No newline at end of file
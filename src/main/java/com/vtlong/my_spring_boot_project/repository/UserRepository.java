@@ -1,8 +1,13 @@
 package com.vtlong.my_spring_boot_project.repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.data.domain.Page;
@@ -11,13 +16,36 @@ import org.springframework.stereotype.Repository;
 
 import com.vtlong.my_spring_boot_project.model.User;
 import com.vtlong.my_spring_boot_project.model.RoleType;
+import com.vtlong.my_spring_boot_project.repository.projection.UserView;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, String> {
+    String USER_VIEW_SELECT = "SELECT new com.vtlong.my_spring_boot_project.repository.projection.UserView("
+            + "u.id, u.username, u.email, u.firstName, u.lastName, u.gender, u.dateOfBirth, u.phone, u.address, "
+            + "listagg(cast(r.name as String), ','), u.createdAt, u.updatedAt) "
+            + "FROM User u LEFT JOIN u.roles r ";
+    String USER_VIEW_GROUP_BY = " GROUP BY u.id, u.username, u.email, u.firstName, u.lastName, u.gender, "
+            + "u.dateOfBirth, u.phone, u.address, u.createdAt, u.updatedAt";
+
     Optional<User> findByUsername(String username);
 
+    @Query(USER_VIEW_SELECT + USER_VIEW_GROUP_BY + " ORDER BY u.createdAt")
+    List<UserView> findAllViews();
+
+    @Query(USER_VIEW_SELECT + "WHERE u.id = :id" + USER_VIEW_GROUP_BY)
+    Optional<UserView> findViewById(@Param("id") String id);
+
+    @Query(USER_VIEW_SELECT + "WHERE u.email = :email" + USER_VIEW_GROUP_BY)
+    Optional<UserView> findViewByEmail(@Param("email") String email);
+
     Optional<User> findByEmail(String email);
 
+    @EntityGraph(attributePaths = "roles")
+    Optional<User> findWithRolesByEmail(String email);
+
+    @EntityGraph(attributePaths = "roles")
+    Optional<User> findWithRolesById(String id);
+
     boolean existsByUsername(String username);
 
     boolean existsByEmail(String email);
@@ -27,4 +55,17 @@ public interface UserRepository extends JpaRepository<User, String> {
 
     @Query("SELECT u FROM User u WHERE LOWER(u.firstName) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR LOWER(u.lastName) LIKE LOWER(CONCAT('%', :searchTerm, '%'))")
     Page<User> findByFirstNameOrLastNameContainingIgnoreCase(@Param("searchTerm") String searchTerm, Pageable pageable);
+
+    @Query("SELECT u.email FROM User u")
+    Stream<String> streamAllEmails();
+
+    @Query("SELECT u.email FROM User u WHERE u.updatedAt >= :since")
+    Stream<String> streamEmailsUpdatedSince(@Param("since") LocalDateTime since);
+
+    @Query("SELECT u.tokenGeneration FROM User u WHERE u.id = :id")
+    Optional<Long> findTokenGenerationById(@Param("id") String id);
+
+    @Modifying
+    @Query("UPDATE User u SET u.tokenGeneration = u.tokenGeneration + 1 WHERE u.id = :id")
+    int incrementTokenGeneration(@Param("id") String id);
 }
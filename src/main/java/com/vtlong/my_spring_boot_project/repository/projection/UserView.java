@@ -0,0 +1,21 @@
+package com.vtlong.my_spring_boot_project.repository.projection;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import com.vtlong.my_spring_boot_project.model.Gender;
+
+public record UserView(
+        String id,
+        String username,
+        String email,
+        String firstName,
+        String lastName,
+        Gender gender,
+        LocalDate dateOfBirth,
+        String phone,
+        String address,
+        String roleCodes,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt) {
+}
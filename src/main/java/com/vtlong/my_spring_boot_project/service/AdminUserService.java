@@ -1,8 +1,10 @@
 package com.vtlong.my_spring_boot_project.service;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -28,32 +30,32 @@ public class AdminUserService {
     private final UserMapper userMapper;
     private final PasswordEncoder passwordEncoder;
     private final RoleRepository roleRepository;
+    private final TokenGenerationService tokenGenerationService;
+    private final RefreshTokenService refreshTokenService;
+    private final KnownEmailFilter knownEmailFilter;
 
     public AdminUserService(UserRepository userRepository, UserMapper userMapper, PasswordEncoder passwordEncoder,
-            RoleRepository roleRepository) {
+            RoleRepository roleRepository, TokenGenerationService tokenGenerationService,
+            RefreshTokenService refreshTokenService, KnownEmailFilter knownEmailFilter) {
         this.userRepository = userRepository;
         this.userMapper = userMapper;
         this.passwordEncoder = passwordEncoder;
         this.roleRepository = roleRepository;
+        this.tokenGenerationService = tokenGenerationService;
+        this.refreshTokenService = refreshTokenService;
+        this.knownEmailFilter = knownEmailFilter;
     }
 
     @Transactional(readOnly = true)
     public List<UserResponseDto> findAll() {
-        List<User> users = userRepository.findAll();
-        return userMapper.toResponseDtoList(users);
+        return userMapper.fromViews(userRepository.findAllViews());
     }
 
     @Transactional(readOnly = true)
     public UserResponseDto findById(String id) {
-        Optional<User> userOptional = userRepository.findById(id);
-
-        if (userOptional.isPresent()) {
-            User user = userOptional.get();
-            UserResponseDto userResponseDto = userMapper.toResponseDto(user);
-            return userResponseDto;
-        } else {
-            throw new AppException(ErrorCode.USER_NOT_FOUND, "User not found with id: " + id);
-        }
+        return userRepository.findViewById(id)
+                .map(userMapper::fromView)
+                .orElseThrow(() -> new AppException(ErrorCode.USER_NOT_FOUND, "User not found with id: " + id));
     }
 
     public UserResponseDto create(CreateUserRequestDto createUserRequestDto) {
@@ -77,6 +79,7 @@ public class AdminUserService {
         user.setRoles(Set.of(userRole));
 
         User savedUser = userRepository.save(user);
+        knownEmailFilter.add(savedUser.getEmail());
         return userMapper.toResponseDto(savedUser);
     }
 
@@ -85,7 +88,17 @@ public class AdminUserService {
         if (existingUser.isPresent()) {
             User user = existingUser.get();
             userMapper.updateEntityFromRequestDto(updateUserRequestDto, user);
+            boolean rolesChanged = false;
+            if (updateUserRequestDto.getRoles() != null) {
+                Set<Role> roles = resolveRoles(updateUserRequestDto.getRoles());
+                rolesChanged = !roleTypes(roles).equals(roleTypes(user.getRoles()));
+                user.setRoles(roles);
+            }
             User updatedUser = userRepository.save(user);
+            if (rolesChanged) {
+                revokeAllTokens(id);
+            }
+            knownEmailFilter.add(updatedUser.getEmail());
             return userMapper.toResponseDto(updatedUser);
         } else {
             throw new AppException(ErrorCode.USER_NOT_FOUND, "User not found with id: " + id);
@@ -95,9 +108,30 @@ public class AdminUserService {
     public void delete(String id) {
         Optional<User> user = userRepository.findById(id);
         if (user.isPresent()) {
+            refreshTokenService.deleteAllForUser(id);
             userRepository.deleteById(id);
+            tokenGenerationService.markDeleted(id);
+            knownEmailFilter.onUserDeleted();
         } else {
             throw new AppException(ErrorCode.USER_NOT_FOUND, "User not found with id: " + id);
         }
     }
+
+    @Transactional
+    public void revokeAllTokens(String id) {
+        tokenGenerationService.revokeAllTokens(id);
+        refreshTokenService.revokeAllForUser(id);
+    }
+
+    private Set<Role> resolveRoles(Set<RoleType> roleTypes) {
+        List<Role> roles = roleRepository.findByNameIn(roleTypes);
+        if (roles.size() != roleTypes.size()) {
+            throw new AppException(ErrorCode.ROLE_NOT_FOUND, "Unknown role in: " + roleTypes);
+        }
+        return new HashSet<>(roles);
+    }
+
+    private Set<RoleType> roleTypes(Set<Role> roles) {
+        return roles == null ? Set.of() : roles.stream().map(Role::getName).collect(Collectors.toSet());
+    }
 }
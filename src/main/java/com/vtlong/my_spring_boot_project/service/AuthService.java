@@ -1,6 +1,5 @@
 package com.vtlong.my_spring_boot_project.service;
 
-import java.nio.charset.StandardCharsets;
 import java.text.ParseException;
 import java.util.Date;
 import java.util.List;
@@ -10,11 +9,11 @@ import java.util.UUID;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import com.nimbusds.jose.*;
-import com.nimbusds.jose.crypto.MACSigner;
-import com.nimbusds.jose.crypto.MACVerifier;
 import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.jwt.SignedJWT;
 import com.vtlong.my_spring_boot_project.config.JwtConfig;
+import com.vtlong.my_spring_boot_project.config.JwtKeyProvider;
+import com.vtlong.my_spring_boot_project.dto.request.BatchIntrospectRequest;
 import com.vtlong.my_spring_boot_project.dto.request.IntrospectRequest;
 import com.vtlong.my_spring_boot_project.dto.request.LoginRequest;
 import com.vtlong.my_spring_boot_project.dto.request.LogoutRequest;
@@ -26,6 +25,7 @@ import com.vtlong.my_spring_boot_project.exception.AppException;
 import com.vtlong.my_spring_boot_project.exception.ErrorCode;
 import com.vtlong.my_spring_boot_project.model.InvalidatedToken;
 import com.vtlong.my_spring_boot_project.model.User;
+import com.vtlong.my_spring_boot_project.monitoring.AuthMetrics;
 import com.vtlong.my_spring_boot_project.repository.UserRepository;
 import com.vtlong.my_spring_boot_project.repository.InvalidatedTokenRepository;
 
@@ -34,75 +34,104 @@ public class AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtConfig jwtConfig;
+    private final JwtKeyProvider jwtKeyProvider;
     private final InvalidatedTokenRepository invalidatedTokenRepository;
+    private final TokenGenerationService tokenGenerationService;
+    private final RefreshTokenService refreshTokenService;
+    private final IntrospectionService introspectionService;
+    private final AuthMetrics authMetrics;
+    private final KnownEmailFilter knownEmailFilter;
+    private final String dummyPasswordHash;
 
     public AuthService(UserRepository userRepository, PasswordEncoder passwordEncoder, JwtConfig jwtConfig,
-            InvalidatedTokenRepository invalidatedTokenRepository) {
+            JwtKeyProvider jwtKeyProvider, InvalidatedTokenRepository invalidatedTokenRepository, TokenGenerationService tokenGenerationService,
+            RefreshTokenService refreshTokenService, IntrospectionService introspectionService, AuthMetrics authMetrics,
+            KnownEmailFilter knownEmailFilter) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.jwtConfig = jwtConfig;
+        this.jwtKeyProvider = jwtKeyProvider;
         this.invalidatedTokenRepository = invalidatedTokenRepository;
+        this.tokenGenerationService = tokenGenerationService;
+        this.refreshTokenService = refreshTokenService;
+        this.introspectionService = introspectionService;
+        this.authMetrics = authMetrics;
+        this.knownEmailFilter = knownEmailFilter;
+        this.dummyPasswordHash = passwordEncoder.encode(UUID.randomUUID().toString());
     }
 
     public LoginResponse handleLogin(LoginRequest loginRequest) {
-        User user = userRepository.findByEmail(loginRequest.getEmail())
-                .orElseThrow(() -> new AppException(ErrorCode.USER_NOT_FOUND));
+        if (!knownEmailFilter.mightExist(loginRequest.getEmail())) {
+            throw rejectUnknownUser(loginRequest);
+        }
+
+        User user = authMetrics.getLoginUserLookup()
+                .record(() -> userRepository.findWithRolesByEmail(loginRequest.getEmail()))
+                .orElseThrow(() -> rejectUnknownUser(loginRequest));
 
-        if (!passwordEncoder.matches(loginRequest.getPassword(), user.getPassword())) {
-            throw new AppException(ErrorCode.INVALID_CREDENTIALS);
+        boolean matches = authMetrics.getLoginPasswordCheck()
+                .record(() -> passwordEncoder.matches(loginRequest.getPassword(), user.getPassword()));
+        if (!matches) {
+            throw AppException.stackless(ErrorCode.INVALID_CREDENTIALS);
         }
 
         String token = generateToken(user);
-        return LoginResponse.builder().success(true).token(token).build();
+        String refreshToken = refreshTokenService.issue(user.getId());
+        return LoginResponse.builder().success(true).token(token).refreshToken(refreshToken).build();
+    }
+
+    private AppException rejectUnknownUser(LoginRequest loginRequest) {
+        authMetrics.getLoginPasswordCheck()
+                .record(() -> passwordEncoder.matches(loginRequest.getPassword(), dummyPasswordHash));
+        return AppException.stackless(ErrorCode.INVALID_CREDENTIALS);
     }
 
     public void handleLogout(LogoutRequest request) throws JOSEException, ParseException {
         String token = request.getToken();
-        boolean isValid = verifyToken(token);
-        if (!isValid) {
-            throw new AppException(ErrorCode.INVALID_CREDENTIALS);
+        String refreshToken = request.getRefreshToken();
+        if (token == null && refreshToken == null) {
+            throw new AppException(ErrorCode.BAD_REQUEST, "Token or refresh token is required");
         }
 
-        SignedJWT signedJWT = SignedJWT.parse(token);
-        JWTClaimsSet claimsSet = signedJWT.getJWTClaimsSet();
+        if (token != null) {
+            boolean isValid = verifyToken(token);
+            if (!isValid) {
+                throw AppException.stackless(ErrorCode.INVALID_CREDENTIALS);
+            }
 
-        String jti = claimsSet.getJWTID();
-        Date expirationTime = claimsSet.getExpirationTime();
+            SignedJWT signedJWT = SignedJWT.parse(token);
+            JWTClaimsSet claimsSet = signedJWT.getJWTClaimsSet();
 
-        invalidatedTokenRepository.save(InvalidatedToken.builder().id(jti).expiresAt(expirationTime).build());
-    }
+            String jti = claimsSet.getJWTID();
+            Date expirationTime = claimsSet.getExpirationTime();
 
-    public RefreshTokenResponse handleRefreshToken(RefreshTokenRequest refreshTokenRequest)
-            throws JOSEException, ParseException {
-        String token = refreshTokenRequest.getToken();
+            invalidatedTokenRepository.save(InvalidatedToken.builder().id(jti).expiresAt(expirationTime).build());
+            introspectionService.evict(jti);
+        }
 
-        boolean isValid = verifyToken(token);
-        if (!isValid) {
-            throw new AppException(ErrorCode.INVALID_CREDENTIALS, "Invalid refresh token");
+        if (refreshToken != null) {
+            refreshTokenService.revokeFamily(refreshToken);
         }
+    }
 
-        SignedJWT signedJWT = SignedJWT.parse(token);
-        JWTClaimsSet claimsSet = signedJWT.getJWTClaimsSet();
+    public void handleLogoutAll(String userId) {
+        tokenGenerationService.revokeAllTokens(userId);
+        refreshTokenService.revokeAllForUser(userId);
+    }
 
-        String userEmail = claimsSet.getSubject();
-        String userId = (String) claimsSet.getClaim("userId");
+    public RefreshTokenResponse handleRefreshToken(RefreshTokenRequest refreshTokenRequest) {
+        RefreshTokenService.RotatedRefreshToken rotated = refreshTokenService
+                .rotate(refreshTokenRequest.getRefreshToken());
 
-        User user = userRepository.findByEmail(userEmail)
+        User user = userRepository.findWithRolesById(rotated.userId())
                 .orElseThrow(() -> new AppException(ErrorCode.USER_NOT_FOUND, "User not found"));
 
-        String jti = claimsSet.getJWTID();
-        Date expirationTime = claimsSet.getExpirationTime();
-
-        invalidatedTokenRepository.save(InvalidatedToken.builder()
-                .id(jti)
-                .expiresAt(expirationTime)
-                .build());
-
         String newToken = generateToken(user);
 
         return RefreshTokenResponse.builder()
                 .success(true)
                 .token(newToken)
+                .refreshToken(rotated.token())
                 .message("Token làm mới thành công")
                 .build();
     }
@@ -113,8 +142,12 @@ public class AuthService {
                 .collect(Collectors.toList());
     }
 
-    private String generateToken(User user) {
-        JWSHeader jwsHeader = new JWSHeader(JWSAlgorithm.HS512);
+    String generateToken(User user) {
+        return authMetrics.getTokenGeneration().record(() -> signToken(user));
+    }
+
+    private String signToken(User user) {
+        JWSHeader jwsHeader = jwtKeyProvider.getHeader();
 
         Set<String> roleNames = user.getRoles().stream()
                 .map(role -> role.getName().getCode())
@@ -125,18 +158,19 @@ public class AuthService {
                 .issuer("vtlong.com")
                 .audience("my-spring-app")
                 .issueTime(new Date())
-                .expirationTime(new Date(System.currentTimeMillis() + 1000L * 60 * 60 * jwtConfig.getExpirationHours()))
+                .expirationTime(new Date(System.currentTimeMillis() + 1000L * 60 * jwtConfig.getAccessTokenExpirationMinutes()))
                 .jwtID(UUID.randomUUID().toString())
                 .claim("userId", user.getId())
                 .claim("username", user.getUsername())
                 .claim("email", user.getEmail())
                 .claim("scope", buildScopes(roleNames))
+                .claim("gen", user.getTokenGeneration())
                 .build();
 
         JWSObject jwsObject = new JWSObject(jwsHeader, new Payload(jwsClaimsSet.toJSONObject()));
 
         try {
-            jwsObject.sign(new MACSigner(jwtConfig.getSignerKey().getBytes(StandardCharsets.UTF_8)));
+            jwsObject.sign(jwtKeyProvider.getSigner());
         } catch (JOSEException e) {
             throw new AppException(ErrorCode.INTERNAL_SERVER_ERROR);
         }
@@ -144,44 +178,15 @@ public class AuthService {
         return jwsObject.serialize();
     }
 
-    public IntrospectResponse handleIntrospect(IntrospectRequest introspectRequest)
-            throws JOSEException, ParseException {
-        String token = introspectRequest.getToken();
-
-        boolean isValid = verifyToken(token);
-
-        return IntrospectResponse.builder().valid(isValid).build();
+    public IntrospectResponse handleIntrospect(IntrospectRequest introspectRequest) {
+        return introspectionService.introspect(introspectRequest.getToken());
     }
 
-    private boolean verifyToken(String token) throws JOSEException, ParseException {
-        try {
-            JWSVerifier verifier = new MACVerifier(jwtConfig.getSignerKey().getBytes(StandardCharsets.UTF_8));
-            SignedJWT signedJWT = SignedJWT.parse(token);
-            Date expirationTime = signedJWT.getJWTClaimsSet().getExpirationTime();
-
-            if (expirationTime.before(new Date())) {
-                return false;
-            }
-
-            boolean isValid = signedJWT.verify(verifier);
-            if (!isValid) {
-                return false;
-            }
-
-            if (!signedJWT.getJWTClaimsSet().getAudience().contains("my-spring-app")) {
-                return false;
-            }
-
-            JWTClaimsSet claimsSet = signedJWT.getJWTClaimsSet();
-            String jti = claimsSet.getJWTID();
-
-            if (invalidatedTokenRepository.existsById(jti)) {
-                return false;
-            }
+    public List<IntrospectResponse> handleBatchIntrospect(BatchIntrospectRequest batchIntrospectRequest) {
+        return introspectionService.introspectAll(batchIntrospectRequest.getTokens());
+    }
 
-            return true;
-        } catch (Exception e) {
-            return false;
-        }
+    boolean verifyToken(String token) {
+        return introspectionService.introspect(token).isValid();
     }
 }
@@ -0,0 +1,163 @@
+package com.vtlong.my_spring_boot_project.service;
+
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.vtlong.my_spring_boot_project.config.JwtConfig;
+import com.vtlong.my_spring_boot_project.config.JwtKeyProvider;
+import com.vtlong.my_spring_boot_project.dto.response.IntrospectResponse;
+import com.vtlong.my_spring_boot_project.repository.InvalidatedTokenRepository;
+
+@Service
+public class IntrospectionService {
+
+    private static final String AUDIENCE = "my-spring-app";
+    private static final IntrospectResponse INVALID = IntrospectResponse.builder().valid(false).build();
+
+    private final JwtKeyProvider jwtKeyProvider;
+    private final InvalidatedTokenRepository invalidatedTokenRepository;
+    private final TokenGenerationService tokenGenerationService;
+    private final Cache<String, CachedIntrospection> cache;
+
+    public IntrospectionService(JwtKeyProvider jwtKeyProvider, JwtConfig jwtConfig,
+            InvalidatedTokenRepository invalidatedTokenRepository, TokenGenerationService tokenGenerationService) {
+        this.jwtKeyProvider = jwtKeyProvider;
+        this.invalidatedTokenRepository = invalidatedTokenRepository;
+        this.tokenGenerationService = tokenGenerationService;
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(jwtConfig.getIntrospectionCacheTtlSeconds()))
+                .maximumSize(jwtConfig.getIntrospectionCacheMaxSize())
+                .build();
+    }
+
+    private record CachedIntrospection(String token, IntrospectResponse response) {
+    }
+
+    private record VerifiedToken(String token, JWTClaimsSet claims) {
+    }
+
+    public IntrospectResponse introspect(String token) {
+        return introspectAll(Collections.singletonList(token)).get(0);
+    }
+
+    public List<IntrospectResponse> introspectAll(List<String> tokens) {
+        List<IntrospectResponse> results = new ArrayList<>(Collections.nCopies(tokens.size(), INVALID));
+        Map<String, List<Integer>> pendingIndexes = new HashMap<>();
+        Map<String, VerifiedToken> pendingTokens = new HashMap<>();
+
+        for (int i = 0; i < tokens.size(); i++) {
+            String token = tokens.get(i);
+            if (token == null) {
+                continue;
+            }
+
+            try {
+                SignedJWT signedJWT = SignedJWT.parse(token);
+                JWTClaimsSet claims = signedJWT.getJWTClaimsSet();
+                String jti = claims.getJWTID();
+                if (jti == null) {
+                    continue;
+                }
+
+                CachedIntrospection cached = cache.getIfPresent(jti);
+                if (cached != null && cached.token().equals(token)) {
+                    results.set(i, revalidate(cached.response(), claims));
+                    continue;
+                }
+
+                if (!isAuthentic(signedJWT, claims)) {
+                    continue;
+                }
+
+                pendingIndexes.computeIfAbsent(jti, key -> new ArrayList<>()).add(i);
+                pendingTokens.putIfAbsent(jti, new VerifiedToken(token, claims));
+            } catch (ParseException | JOSEException e) {
+                results.set(i, INVALID);
+            }
+        }
+
+        if (pendingTokens.isEmpty()) {
+            return results;
+        }
+
+        Set<String> revokedIds = new HashSet<>(invalidatedTokenRepository.findExistingIds(pendingTokens.keySet()));
+
+        pendingTokens.forEach((jti, verified) -> {
+            IntrospectResponse response = revokedIds.contains(jti) ? INVALID : toResponse(verified.claims());
+            cache.put(jti, new CachedIntrospection(verified.token(), response));
+            pendingIndexes.get(jti).forEach(index -> results.set(index, response));
+        });
+
+        return results;
+    }
+
+    public void evict(String jti) {
+        if (jti != null) {
+            cache.invalidate(jti);
+        }
+    }
+
+    private boolean isAuthentic(SignedJWT signedJWT, JWTClaimsSet claims) throws JOSEException, ParseException {
+        if (isExpired(claims)) {
+            return false;
+        }
+
+        if (!jwtKeyProvider.verify(signedJWT)) {
+            return false;
+        }
+
+        if (claims.getAudience() == null || !claims.getAudience().contains(AUDIENCE)) {
+            return false;
+        }
+
+        return isCurrentGeneration(claims);
+    }
+
+    private IntrospectResponse revalidate(IntrospectResponse response, JWTClaimsSet claims) throws ParseException {
+        if (!response.isValid() || isExpired(claims) || !isCurrentGeneration(claims)) {
+            return INVALID;
+        }
+
+        return response;
+    }
+
+    private boolean isExpired(JWTClaimsSet claims) {
+        Date expirationTime = claims.getExpirationTime();
+        return expirationTime == null || expirationTime.before(new Date());
+    }
+
+    private boolean isCurrentGeneration(JWTClaimsSet claims) throws ParseException {
+        Long generation = claims.getLongClaim("gen");
+        return tokenGenerationService.isCurrent(claims.getStringClaim("userId"),
+                generation != null ? generation : 0L);
+    }
+
+    private IntrospectResponse toResponse(JWTClaimsSet claims) {
+        try {
+            return IntrospectResponse.builder()
+                    .valid(true)
+                    .sub(claims.getSubject())
+                    .userId(claims.getStringClaim("userId"))
+                    .scope(claims.getStringListClaim("scope"))
+                    .exp(claims.getExpirationTime().getTime() / 1000)
+                    .build();
+        } catch (ParseException e) {
+            return INVALID;
+        }
+    }
+}
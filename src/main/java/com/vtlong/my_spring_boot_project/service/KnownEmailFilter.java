@@ -0,0 +1,167 @@
+package com.vtlong.my_spring_boot_project.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.vtlong.my_spring_boot_project.repository.UserRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+public class KnownEmailFilter {
+
+    private static final Duration SYNC_OVERLAP = Duration.ofMinutes(1);
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate primaryTransaction;
+    private final double falsePositiveRate;
+    private final long rebuildAfterDeletes;
+    private final long maxStalenessNanos;
+    private final Object lock = new Object();
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private final AtomicLong deletesSinceRebuild = new AtomicLong();
+
+    private volatile BloomFilter current;
+    private BloomFilter next;
+    private volatile LocalDateTime syncedUpTo;
+    private volatile long lastSyncNanos;
+
+    public KnownEmailFilter(UserRepository userRepository, PlatformTransactionManager transactionManager,
+            @Value("${security.login.email-filter.false-positive-rate:0.01}") double falsePositiveRate,
+            @Value("${security.login.email-filter.rebuild-after-deletes:10000}") long rebuildAfterDeletes,
+            @Value("${security.login.email-filter.max-staleness:PT1M}") Duration maxStaleness) {
+        this.userRepository = userRepository;
+        this.primaryTransaction = new TransactionTemplate(transactionManager);
+        this.falsePositiveRate = falsePositiveRate;
+        this.rebuildAfterDeletes = rebuildAfterDeletes;
+        this.maxStalenessNanos = maxStaleness.toNanos();
+    }
+
+    public boolean mightExist(String email) {
+        if (email == null) {
+            return false;
+        }
+        BloomFilter filter = current;
+        if (filter == null || System.nanoTime() - lastSyncNanos > maxStalenessNanos) {
+            return true;
+        }
+        return filter.mightContain(normalize(email));
+    }
+
+    public void add(String email) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            put(email);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                put(email);
+            }
+        });
+    }
+
+    public void onUserDeleted() {
+        if (deletesSinceRebuild.incrementAndGet() >= rebuildAfterDeletes) {
+            CompletableFuture.runAsync(this::rebuild);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${security.login.email-filter.sync-interval:PT10S}",
+            initialDelayString = "${security.login.email-filter.sync-interval:PT10S}")
+    public void sync() {
+        LocalDateTime since = syncedUpTo;
+        if (current == null || since == null || rebuilding.get()) {
+            return;
+        }
+        try {
+            LocalDateTime startedAt = LocalDateTime.now();
+            primaryTransaction.executeWithoutResult(status -> {
+                try (Stream<String> emails = userRepository.streamEmailsUpdatedSince(since.minus(SYNC_OVERLAP))) {
+                    emails.forEach(this::put);
+                }
+            });
+            markSynced(startedAt);
+        } catch (RuntimeException e) {
+            log.warn("Known email filter sync failed; logins fall back to database lookups once it is stale", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${security.login.email-filter.rebuild-interval:PT6H}",
+            initialDelayString = "${security.login.email-filter.rebuild-interval:PT6H}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            deletesSinceRebuild.set(0);
+            LocalDateTime startedAt = LocalDateTime.now();
+            long expected = Math.max(userRepository.count() * 2, 1024);
+            BloomFilter filter = new BloomFilter(expected, falsePositiveRate);
+            synchronized (lock) {
+                next = filter;
+            }
+            primaryTransaction.executeWithoutResult(status -> {
+                try (Stream<String> emails = userRepository.streamAllEmails()) {
+                    emails.forEach(email -> filter.put(normalize(email)));
+                }
+            });
+            synchronized (lock) {
+                current = filter;
+                next = null;
+            }
+            markSynced(startedAt);
+            log.info("Known email filter rebuilt for up to {} users", expected);
+        } catch (RuntimeException e) {
+            synchronized (lock) {
+                next = null;
+            }
+            log.warn("Known email filter rebuild failed; falling back to database lookups", e);
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    private void put(String email) {
+        String normalized = normalize(email);
+        synchronized (lock) {
+            if (current != null) {
+                current.put(normalized);
+            }
+            if (next != null) {
+                next.put(normalized);
+            }
+        }
+    }
+
+    private void markSynced(LocalDateTime startedAt) {
+        syncedUpTo = startedAt;
+        lastSyncNanos = System.nanoTime();
+    }
+
+    private static String normalize(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+}
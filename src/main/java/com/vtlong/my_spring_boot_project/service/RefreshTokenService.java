@@ -0,0 +1,106 @@
+package com.vtlong.my_spring_boot_project.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.UUID;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.vtlong.my_spring_boot_project.config.JwtConfig;
+import com.vtlong.my_spring_boot_project.exception.AppException;
+import com.vtlong.my_spring_boot_project.exception.ErrorCode;
+import com.vtlong.my_spring_boot_project.model.RefreshToken;
+import com.vtlong.my_spring_boot_project.repository.RefreshTokenRepository;
+
+@Service
+public class RefreshTokenService {
+
+    private static final int TOKEN_BYTES = 32;
+    private static final AppException INVALID_REFRESH_TOKEN = AppException
+            .stackless(ErrorCode.INVALID_CREDENTIALS, "Invalid refresh token");
+    private static final AppException REFRESH_TOKEN_REUSED = AppException
+            .stackless(ErrorCode.INVALID_CREDENTIALS, "Refresh token reuse detected");
+    private static final AppException REFRESH_TOKEN_EXPIRED = AppException
+            .stackless(ErrorCode.INVALID_CREDENTIALS, "Refresh token has expired");
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final JwtConfig jwtConfig;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository, JwtConfig jwtConfig) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.jwtConfig = jwtConfig;
+    }
+
+    public record RotatedRefreshToken(String userId, String token) {
+    }
+
+    @Transactional
+    public String issue(String userId) {
+        return issue(userId, UUID.randomUUID().toString());
+    }
+
+    @Transactional(noRollbackFor = AppException.class)
+    public RotatedRefreshToken rotate(String token) {
+        RefreshToken current = refreshTokenRepository.findByTokenHash(hash(token))
+                .orElseThrow(() -> INVALID_REFRESH_TOKEN);
+
+        if (refreshTokenRepository.markRevoked(current.getId()) == 0) {
+            refreshTokenRepository.revokeFamily(current.getFamilyId());
+            throw REFRESH_TOKEN_REUSED;
+        }
+
+        if (current.getExpiresAt().before(new Date())) {
+            throw REFRESH_TOKEN_EXPIRED;
+        }
+
+        return new RotatedRefreshToken(current.getUserId(), issue(current.getUserId(), current.getFamilyId()));
+    }
+
+    @Transactional
+    public void revokeFamily(String token) {
+        refreshTokenRepository.findByTokenHash(hash(token))
+                .ifPresent(refreshToken -> refreshTokenRepository.revokeFamily(refreshToken.getFamilyId()));
+    }
+
+    @Transactional
+    public void revokeAllForUser(String userId) {
+        refreshTokenRepository.revokeAllByUserId(userId);
+    }
+
+    @Transactional
+    public void deleteAllForUser(String userId) {
+        refreshTokenRepository.deleteAllByUserId(userId);
+    }
+
+    private String issue(String userId, String familyId) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        refreshTokenRepository.save(RefreshToken.builder()
+                .tokenHash(hash(token))
+                .familyId(familyId)
+                .userId(userId)
+                .expiresAt(new Date(System.currentTimeMillis()
+                        + 1000L * 60 * 60 * 24 * jwtConfig.getRefreshTokenExpirationDays()))
+                .build());
+
+        return token;
+    }
+
+    private String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.vtlong.my_spring_boot_project.service;
+
+import java.time.Duration;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.vtlong.my_spring_boot_project.config.JwtConfig;
+import com.vtlong.my_spring_boot_project.exception.AppException;
+import com.vtlong.my_spring_boot_project.exception.ErrorCode;
+import com.vtlong.my_spring_boot_project.repository.UserRepository;
+
+@Service
+public class TokenGenerationService {
+
+    private static final long REVOKED = Long.MAX_VALUE;
+
+    private final UserRepository userRepository;
+    private final Cache<String, Long> generations;
+
+    public TokenGenerationService(UserRepository userRepository, JwtConfig jwtConfig) {
+        this.userRepository = userRepository;
+        long accessTokenSeconds = jwtConfig.getAccessTokenExpirationMinutes() * 60L;
+        long ttlSeconds = Math.max(1, Math.min(jwtConfig.getGenerationCacheTtlSeconds(), accessTokenSeconds));
+        this.generations = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(jwtConfig.getGenerationCacheMaxSize())
+                .build();
+    }
+
+    public boolean isCurrent(String userId, long generation) {
+        if (userId == null) {
+            return false;
+        }
+
+        Long cached = generations.getIfPresent(userId);
+        long current = cached != null ? cached : reload(userId);
+        if (generation > current && current != REVOKED) {
+            current = reload(userId);
+        }
+
+        return generation == current;
+    }
+
+    @Transactional
+    public long revokeAllTokens(String userId) {
+        if (userRepository.incrementTokenGeneration(userId) == 0) {
+            throw new AppException(ErrorCode.USER_NOT_FOUND, "User not found with id: " + userId);
+        }
+
+        long generation = load(userId);
+        putAfterCommit(userId, generation);
+        return generation;
+    }
+
+    public void markDeleted(String userId) {
+        putAfterCommit(userId, REVOKED);
+    }
+
+    private long load(String userId) {
+        return userRepository.findTokenGenerationById(userId).orElse(REVOKED);
+    }
+
+    private long reload(String userId) {
+        return remember(userId, load(userId));
+    }
+
+    private long remember(String userId, long generation) {
+        return generations.asMap().merge(userId, generation, Math::max);
+    }
+
+    private void putAfterCommit(String userId, long generation) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            remember(userId, generation);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                remember(userId, generation);
+            }
+        });
+    }
+}
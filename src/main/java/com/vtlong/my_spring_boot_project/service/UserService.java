@@ -1,13 +1,13 @@
 package com.vtlong.my_spring_boot_project.service;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.vtlong.my_spring_boot_project.mapper.UserMapper;
 import com.vtlong.my_spring_boot_project.repository.UserRepository;
 import com.vtlong.my_spring_boot_project.dto.response.UserResponseDto;
 import com.vtlong.my_spring_boot_project.exception.AppException;
 import com.vtlong.my_spring_boot_project.exception.ErrorCode;
-import com.vtlong.my_spring_boot_project.model.User;
 
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.Authentication;
@@ -27,14 +27,14 @@ public class UserService {
         this.userMapper = userMapper;
     }
 
+    @Transactional(readOnly = true)
     public UserResponseDto getCurrentUser() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         String email = authentication.getName();
 
-        User user = userRepository.findByEmail(email)
+        return userRepository.findViewByEmail(email)
+                .map(userMapper::fromView)
                 .orElseThrow(() -> new AppException(ErrorCode.USER_NOT_FOUND, "User not found"));
-
-        return userMapper.toResponseDto(user);
     }
 
     public List<String> getCurrentUserAuthorities() {
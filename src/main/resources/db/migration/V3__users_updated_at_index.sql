@@ -0,0 +1,10 @@
+SET @create_index = (
+    SELECT IF(COUNT(*) = 0, 'CREATE INDEX idx_users_updated_at ON users (updated_at)', 'DO 0')
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE()
+      AND table_name = 'users'
+      AND index_name = 'idx_users_updated_at'
+);
+PREPARE create_index FROM @create_index;
+EXECUTE create_index;
+DEALLOCATE PREPARE create_index;
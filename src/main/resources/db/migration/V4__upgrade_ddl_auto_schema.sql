@@ -0,0 +1,24 @@
+SET @add_token_generation = (
+    SELECT IF(COUNT(*) = 0, 'ALTER TABLE users ADD COLUMN token_generation BIGINT NOT NULL DEFAULT 0', 'DO 0')
+    FROM information_schema.columns
+    WHERE table_schema = DATABASE()
+      AND table_name = 'users'
+      AND column_name = 'token_generation'
+);
+PREPARE add_token_generation FROM @add_token_generation;
+EXECUTE add_token_generation;
+DEALLOCATE PREPARE add_token_generation;
+
+CREATE TABLE IF NOT EXISTS refresh_tokens (
+    id VARCHAR(36) NOT NULL,
+    token_hash VARCHAR(64) NOT NULL,
+    family_id VARCHAR(36) NOT NULL,
+    user_id VARCHAR(36) NOT NULL,
+    expires_at DATETIME(6) NOT NULL,
+    revoked BIT(1) NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    UNIQUE INDEX idx_refresh_tokens_token_hash (token_hash),
+    INDEX idx_refresh_tokens_family_id (family_id),
+    INDEX idx_refresh_tokens_user_id (user_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
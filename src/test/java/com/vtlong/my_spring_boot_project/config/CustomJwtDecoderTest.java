@@ -0,0 +1,92 @@
+package com.vtlong.my_spring_boot_project.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Date;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import com.nimbusds.jose.JWSObject;
+import com.nimbusds.jose.Payload;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.vtlong.my_spring_boot_project.monitoring.AuthMetrics;
+import com.vtlong.my_spring_boot_project.service.TokenGenerationService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class CustomJwtDecoderTest {
+
+	private static final String USER_ID = "0d9a7f4e-8c3b-4a51-9e2d-6f1b2c3d4e5f";
+
+	private JwtKeyProvider jwtKeyProvider;
+	private TokenGenerationService tokenGenerationService;
+	private CustomJwtDecoder customJwtDecoder;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		JwtConfig jwtConfig = new JwtConfig();
+		jwtConfig.setSignerKey("test-signer-key-0123456789abcdef0123456789abcdef0123456789abcdef0123456789");
+		jwtConfig.setSigningAlgorithm("HS512");
+		jwtKeyProvider = new JwtKeyProvider(jwtConfig);
+		tokenGenerationService = mock(TokenGenerationService.class);
+		customJwtDecoder = new CustomJwtDecoder(jwtKeyProvider, tokenGenerationService,
+				new AuthMetrics(new SimpleMeterRegistry()));
+	}
+
+	@Test
+	void acceptsTokensFromTheCurrentGeneration() throws Exception {
+		when(tokenGenerationService.isCurrent(USER_ID, 3L)).thenReturn(true);
+
+		assertThat(customJwtDecoder.decode(token(3L)).getClaimAsString("userId")).isEqualTo(USER_ID);
+	}
+
+	@Test
+	void rejectsTokensFromARevokedGeneration() throws Exception {
+		when(tokenGenerationService.isCurrent(USER_ID, 3L)).thenReturn(false);
+
+		assertThatThrownBy(() -> customJwtDecoder.decode(token(3L)))
+				.isInstanceOf(JwtException.class)
+				.hasMessage("Token has been revoked");
+	}
+
+	@Test
+	void treatsAMissingGenerationClaimAsGenerationZero() throws Exception {
+		when(tokenGenerationService.isCurrent(USER_ID, 0L)).thenReturn(true);
+
+		assertThat(customJwtDecoder.decode(token(null)).getClaimAsString("userId")).isEqualTo(USER_ID);
+	}
+
+	@Test
+	void doesNotCheckRevocationForTokensThatFailVerification() throws Exception {
+		String token = token(0L);
+		String tampered = token.substring(0, token.length() - 4) + "AAAA";
+
+		assertThatThrownBy(() -> customJwtDecoder.decode(tampered)).isInstanceOf(JwtException.class);
+
+		verify(tokenGenerationService, never()).isCurrent(anyString(), anyLong());
+	}
+
+	private String token(Long generation) throws Exception {
+		JWTClaimsSet.Builder claims = new JWTClaimsSet.Builder()
+				.subject("user@example.com")
+				.issueTime(new Date())
+				.expirationTime(new Date(System.currentTimeMillis() + 60_000))
+				.claim("userId", USER_ID);
+		if (generation != null) {
+			claims.claim("gen", generation);
+		}
+
+		JWSObject jwsObject = new JWSObject(jwtKeyProvider.getHeader(), new Payload(claims.build().toJSONObject()));
+		jwsObject.sign(jwtKeyProvider.getSigner());
+		return jwsObject.serialize();
+	}
+}
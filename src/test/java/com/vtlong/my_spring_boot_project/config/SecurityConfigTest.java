@@ -0,0 +1,135 @@
+package com.vtlong.my_spring_boot_project.config;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.vtlong.my_spring_boot_project.exception.ErrorResponseTemplates;
+import com.vtlong.my_spring_boot_project.monitoring.AuthMetrics;
+
+@WebMvcTest(controllers = SecurityConfigTest.ProbeController.class, properties = "sql-budget.enabled=false")
+@Import({ SecurityConfig.class, ApiAccessDeniedHandler.class, SecurityConfigTest.ProbeController.class })
+class SecurityConfigTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@MockitoBean
+	private CustomJwtDecoder customJwtDecoder;
+
+	@MockitoBean
+	private AuthMetrics authMetrics;
+
+	@MockitoBean
+	private ErrorResponseTemplates errorResponseTemplates;
+
+	@BeforeEach
+	void setUp() {
+		when(customJwtDecoder.decode(anyString())).thenThrow(new BadJwtException("Invalid token"));
+		for (String role : List.of("ADMIN", "MODERATOR", "USER", "SERVICE")) {
+			doReturn(jwt(role)).when(customJwtDecoder).decode(role);
+		}
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = { "USER", "MODERATOR", "SERVICE" })
+	void nonAdminRolesAreForbiddenOnAdminEndpoints(String role) throws Exception {
+		mockMvc.perform(get("/admin/users").header("Authorization", "Bearer " + role))
+				.andExpect(status().isForbidden());
+	}
+
+	@Test
+	void adminIsAllowedOnAdminEndpoints() throws Exception {
+		mockMvc.perform(get("/admin/users").header("Authorization", "Bearer ADMIN"))
+				.andExpect(status().isOk());
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = { "ADMIN", "MODERATOR", "USER" })
+	void everyUserRoleIsAllowedOnUserEndpoints(String role) throws Exception {
+		mockMvc.perform(get("/users/me").header("Authorization", "Bearer " + role))
+				.andExpect(status().isOk());
+	}
+
+	@Test
+	void serviceRoleIsForbiddenOnUserEndpoints() throws Exception {
+		mockMvc.perform(get("/users/me").header("Authorization", "Bearer SERVICE"))
+				.andExpect(status().isForbidden());
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = { "/admin/users", "/users/me" })
+	void anonymousRequestsAreUnauthorized(String path) throws Exception {
+		mockMvc.perform(get(path))
+				.andExpect(status().isUnauthorized());
+	}
+
+	@Test
+	void invalidTokensAreUnauthorized() throws Exception {
+		mockMvc.perform(get("/users/me").header("Authorization", "Bearer forged"))
+				.andExpect(status().isUnauthorized());
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = { "SERVICE", "ADMIN" })
+	void batchIntrospectionIsAllowedForServiceAndAdmin(String role) throws Exception {
+		mockMvc.perform(post("/auth/introspect/batch").header("Authorization", "Bearer " + role))
+				.andExpect(status().isOk());
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = { "USER", "MODERATOR" })
+	void batchIntrospectionIsForbiddenForEndUsers(String role) throws Exception {
+		mockMvc.perform(post("/auth/introspect/batch").header("Authorization", "Bearer " + role))
+				.andExpect(status().isForbidden());
+	}
+
+	@Test
+	void publicEndpointsNeedNoToken() throws Exception {
+		mockMvc.perform(post("/auth/introspect"))
+				.andExpect(status().isOk());
+	}
+
+	private static Jwt jwt(String role) {
+		return Jwt.withTokenValue(role)
+				.header("alg", "HS512")
+				.subject(role.toLowerCase() + "@example.com")
+				.claim("userId", role.toLowerCase())
+				.claim("scope", List.of(role))
+				.build();
+	}
+
+	@RestController
+	static class ProbeController {
+
+		@GetMapping({ "/admin/users", "/users/me" })
+		String read() {
+			return "ok";
+		}
+
+		@PostMapping({ "/auth/introspect", "/auth/introspect/batch" })
+		String introspect() {
+			return "ok";
+		}
+	}
+}
@@ -0,0 +1,46 @@
+package com.vtlong.my_spring_boot_project.exception;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.http.HttpStatus;
+
+class ErrorCodeTest {
+
+	@ParameterizedTest
+	@CsvSource({
+			"USER_NOT_FOUND, NOT_FOUND",
+			"USER_ALREADY_EXISTS, CONFLICT",
+			"USER_INVALID_INPUT, BAD_REQUEST",
+			"USER_UNAUTHORIZED, UNAUTHORIZED",
+			"ROLE_NOT_FOUND, NOT_FOUND",
+			"ROLE_ALREADY_EXISTS, CONFLICT",
+			"INTERNAL_SERVER_ERROR, INTERNAL_SERVER_ERROR",
+			"VALIDATION_ERROR, BAD_REQUEST",
+			"RESOURCE_NOT_FOUND, NOT_FOUND",
+			"BAD_REQUEST, BAD_REQUEST",
+			"METHOD_NOT_ALLOWED, METHOD_NOT_ALLOWED",
+			"REQUEST_TIMEOUT, REQUEST_TIMEOUT",
+			"TOO_MANY_REQUESTS, TOO_MANY_REQUESTS",
+			"SERVICE_UNAVAILABLE, SERVICE_UNAVAILABLE",
+			"INVALID_CREDENTIALS, UNAUTHORIZED"
+	})
+	void mapsToHttpStatus(ErrorCode errorCode, HttpStatus expected) {
+		assertThat(errorCode.getHttpStatus()).isEqualTo(expected);
+	}
+
+	@ParameterizedTest
+	@CsvSource({
+			"USER_NOT_FOUND, USER_001",
+			"INVALID_CREDENTIALS, SYS_009",
+			"TOO_MANY_REQUESTS, SYS_007"
+	})
+	void stacklessExceptionsKeepTheirCode(ErrorCode errorCode, String code) {
+		AppException exception = AppException.stackless(errorCode);
+
+		assertThat(exception.getErrorCodeString()).isEqualTo(code);
+		assertThat(exception.isStackless()).isTrue();
+		assertThat(exception.getStackTrace()).isEmpty();
+	}
+}
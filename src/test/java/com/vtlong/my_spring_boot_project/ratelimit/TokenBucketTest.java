@@ -0,0 +1,66 @@
+package com.vtlong.my_spring_boot_project.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class TokenBucketTest {
+
+	private static final int CAPACITY = 5;
+	private static final long REFILL_PERIOD = TimeUnit.MINUTES.toNanos(1);
+
+	@Test
+	void startsFullAndRejectsOnceDrained() {
+		TokenBucket bucket = new TokenBucket(CAPACITY, 0);
+
+		for (int i = 0; i < CAPACITY; i++) {
+			assertThat(bucket.tryConsume(CAPACITY, REFILL_PERIOD, 0)).isTrue();
+		}
+		assertThat(bucket.tryConsume(CAPACITY, REFILL_PERIOD, 0)).isFalse();
+	}
+
+	@Test
+	void refillsProportionallyToElapsedTime() {
+		TokenBucket bucket = drained();
+		long perToken = REFILL_PERIOD / CAPACITY;
+
+		assertThat(bucket.tryConsume(CAPACITY, REFILL_PERIOD, perToken - 1)).isFalse();
+		assertThat(bucket.tryConsume(CAPACITY, REFILL_PERIOD, perToken)).isTrue();
+		assertThat(bucket.tryConsume(CAPACITY, REFILL_PERIOD, perToken)).isFalse();
+		assertThat(bucket.tryConsume(CAPACITY, REFILL_PERIOD, 3 * perToken)).isTrue();
+		assertThat(bucket.tryConsume(CAPACITY, REFILL_PERIOD, 3 * perToken)).isTrue();
+		assertThat(bucket.tryConsume(CAPACITY, REFILL_PERIOD, 3 * perToken)).isFalse();
+	}
+
+	@Test
+	void refillIsCappedAtCapacity() {
+		TokenBucket bucket = drained();
+		long muchLater = 10 * REFILL_PERIOD;
+
+		for (int i = 0; i < CAPACITY; i++) {
+			assertThat(bucket.tryConsume(CAPACITY, REFILL_PERIOD, muchLater)).isTrue();
+		}
+		assertThat(bucket.tryConsume(CAPACITY, REFILL_PERIOD, muchLater)).isFalse();
+	}
+
+	@Test
+	void ignoresClockGoingBackwards() {
+		TokenBucket bucket = new TokenBucket(CAPACITY, REFILL_PERIOD);
+		for (int i = 0; i < CAPACITY; i++) {
+			bucket.tryConsume(CAPACITY, REFILL_PERIOD, REFILL_PERIOD);
+		}
+
+		assertThat(bucket.tryConsume(CAPACITY, REFILL_PERIOD, 0)).isFalse();
+		assertThat(bucket.tryConsume(CAPACITY, REFILL_PERIOD, REFILL_PERIOD + REFILL_PERIOD / CAPACITY)).isTrue();
+	}
+
+	private static TokenBucket drained() {
+		TokenBucket bucket = new TokenBucket(CAPACITY, 0);
+		for (int i = 0; i < CAPACITY; i++) {
+			bucket.tryConsume(CAPACITY, REFILL_PERIOD, 0);
+		}
+		return bucket;
+	}
+}
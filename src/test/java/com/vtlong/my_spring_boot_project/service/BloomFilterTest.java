@@ -0,0 +1,55 @@
+package com.vtlong.my_spring_boot_project.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class BloomFilterTest {
+
+	@Test
+	void containsEverythingThatWasPut() {
+		BloomFilter filter = new BloomFilter(10_000, 0.01);
+		for (int i = 0; i < 10_000; i++) {
+			filter.put("user" + i + "@example.com");
+		}
+
+		for (int i = 0; i < 10_000; i++) {
+			assertThat(filter.mightContain("user" + i + "@example.com")).isTrue();
+		}
+	}
+
+	@Test
+	void emptyFilterContainsNothing() {
+		BloomFilter filter = new BloomFilter(1_000, 0.01);
+
+		assertThat(filter.mightContain("admin@example.com")).isFalse();
+		assertThat(filter.mightContain("")).isFalse();
+	}
+
+	@Test
+	void falsePositiveRateStaysNearTheConfiguredRate() {
+		BloomFilter filter = new BloomFilter(10_000, 0.01);
+		for (int i = 0; i < 10_000; i++) {
+			filter.put("user" + i + "@example.com");
+		}
+
+		int falsePositives = 0;
+		int probes = 100_000;
+		for (int i = 0; i < probes; i++) {
+			if (filter.mightContain("stranger" + i + "@example.org")) {
+				falsePositives++;
+			}
+		}
+
+		assertThat((double) falsePositives / probes).isLessThan(0.02);
+	}
+
+	@Test
+	void handlesNonAsciiValues() {
+		BloomFilter filter = new BloomFilter(100, 0.01);
+		filter.put("nguyễn.văn@example.vn");
+
+		assertThat(filter.mightContain("nguyễn.văn@example.vn")).isTrue();
+		assertThat(filter.mightContain("nguyen.van@example.vn")).isFalse();
+	}
+}
@@ -0,0 +1,129 @@
+package com.vtlong.my_spring_boot_project.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.vtlong.my_spring_boot_project.config.JwtConfig;
+import com.vtlong.my_spring_boot_project.exception.AppException;
+import com.vtlong.my_spring_boot_project.exception.ErrorCode;
+import com.vtlong.my_spring_boot_project.model.RefreshToken;
+import com.vtlong.my_spring_boot_project.repository.RefreshTokenRepository;
+
+class RefreshTokenServiceTest {
+
+	private static final String USER_ID = "0d9a7f4e-8c3b-4a51-9e2d-6f1b2c3d4e5f";
+
+	private RefreshTokenRepository refreshTokenRepository;
+	private RefreshTokenService refreshTokenService;
+
+	@BeforeEach
+	void setUp() {
+		JwtConfig jwtConfig = new JwtConfig();
+		jwtConfig.setRefreshTokenExpirationDays(7);
+		refreshTokenRepository = mock(RefreshTokenRepository.class);
+		refreshTokenService = new RefreshTokenService(refreshTokenRepository, jwtConfig);
+	}
+
+	@Test
+	void issueStoresOnlyTheHashOfTheToken() {
+		String token = refreshTokenService.issue(USER_ID);
+
+		RefreshToken stored = saved().get(0);
+		assertThat(stored.getTokenHash()).hasSize(64).isNotEqualTo(token);
+		assertThat(stored.getUserId()).isEqualTo(USER_ID);
+		assertThat(stored.getFamilyId()).isNotBlank();
+		assertThat(stored.getExpiresAt()).isAfter(new Date());
+	}
+
+	@Test
+	void rotateRevokesTheTokenAndIssuesANewOneInTheSameFamily() {
+		String token = refreshTokenService.issue(USER_ID);
+		RefreshToken current = storedAs("token-1");
+		when(refreshTokenRepository.findByTokenHash(current.getTokenHash())).thenReturn(Optional.of(current));
+		when(refreshTokenRepository.markRevoked("token-1")).thenReturn(1);
+
+		RefreshTokenService.RotatedRefreshToken rotated = refreshTokenService.rotate(token);
+
+		assertThat(rotated.userId()).isEqualTo(USER_ID);
+		assertThat(rotated.token()).isNotEqualTo(token);
+		verify(refreshTokenRepository).markRevoked("token-1");
+		verify(refreshTokenRepository, never()).revokeFamily(anyString());
+
+		RefreshToken next = saved().get(1);
+		assertThat(next.getFamilyId()).isEqualTo(current.getFamilyId());
+		assertThat(next.getUserId()).isEqualTo(USER_ID);
+		assertThat(next.getTokenHash()).isNotEqualTo(current.getTokenHash());
+	}
+
+	@Test
+	void reusingARotatedTokenRevokesTheWholeFamily() {
+		String token = refreshTokenService.issue(USER_ID);
+		RefreshToken current = storedAs("token-1");
+		when(refreshTokenRepository.findByTokenHash(current.getTokenHash())).thenReturn(Optional.of(current));
+		when(refreshTokenRepository.markRevoked("token-1")).thenReturn(0);
+
+		assertThatThrownBy(() -> refreshTokenService.rotate(token))
+				.isInstanceOf(AppException.class)
+				.hasMessage("Refresh token reuse detected")
+				.extracting(e -> ((AppException) e).getErrorCode())
+				.isEqualTo(ErrorCode.INVALID_CREDENTIALS);
+
+		verify(refreshTokenRepository).revokeFamily(current.getFamilyId());
+		verify(refreshTokenRepository, times(1)).save(any(RefreshToken.class));
+	}
+
+	@Test
+	void rotatingAnExpiredTokenFailsWithoutIssuingANewOne() {
+		String token = refreshTokenService.issue(USER_ID);
+		RefreshToken current = storedAs("token-1");
+		current.setExpiresAt(new Date(System.currentTimeMillis() - 1000));
+		when(refreshTokenRepository.findByTokenHash(current.getTokenHash())).thenReturn(Optional.of(current));
+		when(refreshTokenRepository.markRevoked("token-1")).thenReturn(1);
+
+		assertThatThrownBy(() -> refreshTokenService.rotate(token))
+				.isInstanceOf(AppException.class)
+				.hasMessage("Refresh token has expired");
+
+		verify(refreshTokenRepository, never()).revokeFamily(anyString());
+		verify(refreshTokenRepository, times(1)).save(any(RefreshToken.class));
+	}
+
+	@Test
+	void rotatingAnUnknownTokenFails() {
+		when(refreshTokenRepository.findByTokenHash(anyString())).thenReturn(Optional.empty());
+
+		assertThatThrownBy(() -> refreshTokenService.rotate("unknown"))
+				.isInstanceOf(AppException.class)
+				.hasMessage("Invalid refresh token");
+
+		verify(refreshTokenRepository, never()).markRevoked(anyString());
+	}
+
+	private RefreshToken storedAs(String id) {
+		RefreshToken stored = saved().get(0);
+		stored.setId(id);
+		return stored;
+	}
+
+	private List<RefreshToken> saved() {
+		ArgumentCaptor<RefreshToken> captor = ArgumentCaptor.forClass(RefreshToken.class);
+		verify(refreshTokenRepository, atLeastOnce()).save(captor.capture());
+		return captor.getAllValues();
+	}
+}
@@ -0,0 +1,143 @@
+package com.vtlong.my_spring_boot_project.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.vtlong.my_spring_boot_project.config.JwtConfig;
+import com.vtlong.my_spring_boot_project.exception.AppException;
+import com.vtlong.my_spring_boot_project.exception.ErrorCode;
+import com.vtlong.my_spring_boot_project.repository.UserRepository;
+
+class TokenGenerationServiceTest {
+
+	private static final String USER_ID = "0d9a7f4e-8c3b-4a51-9e2d-6f1b2c3d4e5f";
+
+	private UserRepository userRepository;
+	private TokenGenerationService tokenGenerationService;
+
+	@BeforeEach
+	void setUp() {
+		JwtConfig jwtConfig = new JwtConfig();
+		jwtConfig.setAccessTokenExpirationMinutes(15);
+		userRepository = mock(UserRepository.class);
+		tokenGenerationService = new TokenGenerationService(userRepository, jwtConfig);
+	}
+
+	@AfterEach
+	void tearDown() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Test
+	void cachesTheGenerationAfterTheFirstLookup() {
+		when(userRepository.findTokenGenerationById(USER_ID)).thenReturn(Optional.of(0L));
+
+		assertThat(tokenGenerationService.isCurrent(USER_ID, 0)).isTrue();
+		assertThat(tokenGenerationService.isCurrent(USER_ID, 0)).isTrue();
+
+		verify(userRepository, times(1)).findTokenGenerationById(USER_ID);
+	}
+
+	@Test
+	void reloadsWhenATokenCarriesANewerGeneration() {
+		when(userRepository.findTokenGenerationById(USER_ID)).thenReturn(Optional.of(0L), Optional.of(1L));
+
+		assertThat(tokenGenerationService.isCurrent(USER_ID, 0)).isTrue();
+		assertThat(tokenGenerationService.isCurrent(USER_ID, 1)).isTrue();
+		assertThat(tokenGenerationService.isCurrent(USER_ID, 0)).isFalse();
+
+		verify(userRepository, times(2)).findTokenGenerationById(USER_ID);
+	}
+
+	@Test
+	void rejectsOlderGenerationsWithoutReloading() {
+		when(userRepository.findTokenGenerationById(USER_ID)).thenReturn(Optional.of(2L));
+
+		assertThat(tokenGenerationService.isCurrent(USER_ID, 2)).isTrue();
+		assertThat(tokenGenerationService.isCurrent(USER_ID, 1)).isFalse();
+
+		verify(userRepository, times(1)).findTokenGenerationById(USER_ID);
+	}
+
+	@Test
+	void unknownUsersAreNeverCurrent() {
+		when(userRepository.findTokenGenerationById(USER_ID)).thenReturn(Optional.empty());
+
+		assertThat(tokenGenerationService.isCurrent(USER_ID, 0)).isFalse();
+		assertThat(tokenGenerationService.isCurrent(USER_ID, 5)).isFalse();
+		assertThat(tokenGenerationService.isCurrent(null, 0)).isFalse();
+
+		verify(userRepository, times(1)).findTokenGenerationById(USER_ID);
+	}
+
+	@Test
+	void deletedUsersAreRevokedWithoutAnotherLookup() {
+		when(userRepository.findTokenGenerationById(USER_ID)).thenReturn(Optional.of(0L));
+		assertThat(tokenGenerationService.isCurrent(USER_ID, 0)).isTrue();
+
+		tokenGenerationService.markDeleted(USER_ID);
+
+		assertThat(tokenGenerationService.isCurrent(USER_ID, 0)).isFalse();
+		assertThat(tokenGenerationService.isCurrent(USER_ID, 1)).isFalse();
+		verify(userRepository, times(1)).findTokenGenerationById(USER_ID);
+	}
+
+	@Test
+	void revocationReachesTheCacheOnlyAfterCommit() {
+		when(userRepository.findTokenGenerationById(USER_ID)).thenReturn(Optional.of(0L));
+		assertThat(tokenGenerationService.isCurrent(USER_ID, 0)).isTrue();
+
+		when(userRepository.incrementTokenGeneration(USER_ID)).thenReturn(1);
+		when(userRepository.findTokenGenerationById(USER_ID)).thenReturn(Optional.of(1L));
+		TransactionSynchronizationManager.initSynchronization();
+
+		assertThat(tokenGenerationService.revokeAllTokens(USER_ID)).isEqualTo(1L);
+		assertThat(tokenGenerationService.isCurrent(USER_ID, 0)).isTrue();
+
+		TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+		assertThat(tokenGenerationService.isCurrent(USER_ID, 0)).isFalse();
+		assertThat(tokenGenerationService.isCurrent(USER_ID, 1)).isTrue();
+		verify(userRepository, times(2)).findTokenGenerationById(USER_ID);
+	}
+
+	@Test
+	void rolledBackRevocationLeavesTheCacheUntouched() {
+		when(userRepository.findTokenGenerationById(USER_ID)).thenReturn(Optional.of(0L));
+		assertThat(tokenGenerationService.isCurrent(USER_ID, 0)).isTrue();
+
+		when(userRepository.incrementTokenGeneration(USER_ID)).thenReturn(1);
+		TransactionSynchronizationManager.initSynchronization();
+		tokenGenerationService.revokeAllTokens(USER_ID);
+		TransactionSynchronizationManager.clearSynchronization();
+
+		assertThat(tokenGenerationService.isCurrent(USER_ID, 0)).isTrue();
+	}
+
+	@Test
+	void revokingAnUnknownUserFails() {
+		when(userRepository.incrementTokenGeneration(USER_ID)).thenReturn(0);
+
+		assertThatThrownBy(() -> tokenGenerationService.revokeAllTokens(USER_ID))
+				.isInstanceOf(AppException.class)
+				.extracting(e -> ((AppException) e).getErrorCode())
+				.isEqualTo(ErrorCode.USER_NOT_FOUND);
+
+		verify(userRepository, never()).findTokenGenerationById(USER_ID);
+	}
+}